@@ -19,9 +19,19 @@ public interface TwistyPuzzle<P extends TwistyPuzzle<P, R>, R extends Rotation<P
      */
     P rotate(R rotation);
 
+    /**
+     * Rotates the puzzle according to the specified rotations, applied in order.
+     * The rotations are applied iteratively, so the stack depth does not grow with the number of rotations.
+     *
+     * @param rotations the rotations to be applied to the puzzle
+     * @return the puzzle in its new baseState after all the rotations
+     */
     default TwistyPuzzle<P, R> rotate(List<R> rotations) {
-        if (rotations.isEmpty()) return this;
-        return rotate(rotations.get(0)).rotate(rotations.subList(1, rotations.size()));
+        TwistyPuzzle<P, R> puzzle = this;
+        for (var rotation : rotations) {
+            puzzle = puzzle.rotate(rotation);
+        }
+        return puzzle;
     }
 
     boolean isSolved();
@@ -5,6 +5,7 @@ import io.github.yasenia.puzzle.cube.standard.geometric.rotation.RotateDirection
 
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.PlanarOrientation.BOTTOM;
 import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.PlanarOrientation.LEFT;
@@ -24,10 +25,15 @@ public class PlanarAccessor<T> implements OrientationAccessible<PlanarOrientatio
      */
     public static final PlanarAccessor<PlanarOrientation> PLANAR_ORIENTATIONS = new PlanarAccessor<>(LEFT, RIGHT, TOP, BOTTOM);
 
-    private final Supplier<T> leftSupplier;
-    private final Supplier<T> rightSupplier;
-    private final Supplier<T> topSupplier;
-    private final Supplier<T> bottomSupplier;
+    /**
+     * The suppliers of a lazy accessor indexed by {@link PlanarOrientation#ordinal()}, or {@code null} for a materialized accessor.
+     */
+    private final Supplier<T>[] suppliers;
+
+    /**
+     * The objects of a materialized accessor indexed by {@link PlanarOrientation#ordinal()}, or {@code null} for a lazy accessor.
+     */
+    private final Object[] values;
 
     /**
      * Constructs a PlanarAccessor with suppliers for each direction.
@@ -41,15 +47,13 @@ public class PlanarAccessor<T> implements OrientationAccessible<PlanarOrientatio
      * @param topSupplier    the supplier of the object associated with the top direction.
      * @param bottomSupplier the supplier of the object associated with the bottom direction.
      */
+    @SuppressWarnings("unchecked")
     public PlanarAccessor(Supplier<T> leftSupplier, Supplier<T> rightSupplier, Supplier<T> topSupplier, Supplier<T> bottomSupplier) {
-        this.leftSupplier = leftSupplier;
-        this.rightSupplier = rightSupplier;
-        this.topSupplier = topSupplier;
-        this.bottomSupplier = bottomSupplier;
+        this((Supplier<T>[]) new Supplier<?>[] {leftSupplier, rightSupplier, topSupplier, bottomSupplier}, null);
     }
 
     /**
-     * Constructs a PlanarAccessor with a concrete object for each direction.
+     * Constructs a materialized PlanarAccessor with a concrete object for each direction.
      *
      * @param left   the object associated with the left direction.
      * @param right  the object associated with the right direction.
@@ -57,7 +61,7 @@ public class PlanarAccessor<T> implements OrientationAccessible<PlanarOrientatio
      * @param bottom the object associated with the bottom direction.
      */
     public PlanarAccessor(T left, T right, T top, T bottom) {
-        this(() -> left, () -> right, () -> top, () -> bottom);
+        this(null, new Object[] {left, right, top, bottom});
     }
 
     /**
@@ -74,36 +78,65 @@ public class PlanarAccessor<T> implements OrientationAccessible<PlanarOrientatio
         this(() -> accessible.at(LEFT), () -> accessible.at(RIGHT), () -> accessible.at(TOP), () -> accessible.at(BOTTOM));
     }
 
+    private PlanarAccessor(Supplier<T>[] suppliers, Object[] values) {
+        this.suppliers = suppliers;
+        this.values = values;
+    }
+
     public T left() {
-        return leftSupplier.get();
+        return at(LEFT);
     }
 
     public T right() {
-        return rightSupplier.get();
+        return at(RIGHT);
     }
 
     public T top() {
-        return topSupplier.get();
+        return at(TOP);
     }
 
     public T bottom() {
-        return bottomSupplier.get();
+        return at(BOTTOM);
     }
 
     /**
      * Returns the associated object in the specified planar orientation.
      *
+     * <p>
+     * A materialized accessor answers with a single array load, while a lazy accessor invokes the supplier of the orientation.
+     *
      * @param orientation the planar orientation
      * @return the associated object in the specified orientation
      */
     @Override
+    @SuppressWarnings("unchecked")
     public T at(PlanarOrientation orientation) {
-        return switch (orientation) {
-            case LEFT -> left();
-            case RIGHT -> right();
-            case TOP -> top();
-            case BOTTOM -> bottom();
-        };
+        var index = orientation.ordinal();
+        return this.values != null ? (T) this.values[index] : this.suppliers[index].get();
+    }
+
+    /**
+     * Evaluates the associated objects once and returns a PlanarAccessor backed by an array of the results.
+     *
+     * <p>
+     * Lazy accessors, such as those created from suppliers or by {@link #map(Function)}, evaluate their suppliers on every access.
+     * Materializing one makes the evaluation cost explicit and paid exactly once, after which every access is an array load.
+     * Materializing an accessor that is already materialized returns the accessor itself.
+     *
+     * @return a materialized PlanarAccessor holding the current associated objects.
+     */
+    public PlanarAccessor<T> materialize() {
+        if (isMaterialized()) return this;
+        return new PlanarAccessor<>(left(), right(), top(), bottom());
+    }
+
+    /**
+     * Checks whether this accessor is materialized, that is backed by an array of concrete objects rather than by suppliers.
+     *
+     * @return true if this accessor is materialized, false if it is lazy.
+     */
+    public boolean isMaterialized() {
+        return this.values != null;
     }
 
     /**
@@ -115,6 +148,10 @@ public class PlanarAccessor<T> implements OrientationAccessible<PlanarOrientatio
      * transformed associations. This method is useful for converting the types of the associated objects or
      * performing some computations on them before creating a new PlanarAccessor instance.
      *
+     * <p>
+     * The returned accessor is lazy: the function is applied on every access. Call {@link #materialize()} on the result
+     * when the transformed objects are read repeatedly.
+     *
      * @param mapper the function to apply to the associated objects.
      * @return a new PlanarAccessor instance with the transformed associations.
      */
@@ -129,15 +166,44 @@ public class PlanarAccessor<T> implements OrientationAccessible<PlanarOrientatio
      * <p>
      * The associated objects are rearranged based on the rotation direction specified.
      *
+     * <p>
+     * The rotation permutes the underlying suppliers or objects instead of wrapping them, so successive rotations never nest.
+     *
      * @param direction the direction to rotate the associated objects.
      * @return a new PlanarAccessor representing the baseState after rotation.
      */
-    @SuppressWarnings("SuspiciousNameCombination")
     public PlanarAccessor<T> rotate(RotateDirection direction) {
-        return switch (direction) {
-            case CLOCKWISE -> new PlanarAccessor<>(this::bottom, this::top, this::left, this::right);
-            case COUNTER_CLOCKWISE -> new PlanarAccessor<>(this::top, this::bottom, this::right, this::left);
-            case DOUBLE -> new PlanarAccessor<>(this::right, this::left, this::bottom, this::top);
-        };
+        var sources = RotationSources.OF_DIRECTION[direction.ordinal()];
+        return isMaterialized()
+            ? new PlanarAccessor<>(null, permute(this.values, sources))
+            : new PlanarAccessor<>(permute(this.suppliers, sources), null);
+    }
+
+    private static <E> E[] permute(E[] elements, int[] sources) {
+        var permuted = elements.clone();
+        for (int target = 0; target < sources.length; target++) {
+            permuted[target] = elements[sources[target]];
+        }
+        return permuted;
+    }
+
+    /**
+     * The index permutations applied by {@link #rotate(RotateDirection)}, mapping each target ordinal to its source ordinal.
+     */
+    private static final class RotationSources {
+
+        private static final int[][] OF_DIRECTION = Stream.of(RotateDirection.values())
+            .map(RotationSources::sourcesOf)
+            .toArray(int[][]::new);
+
+        @SuppressWarnings("SuspiciousNameCombination")
+        private static int[] sourcesOf(RotateDirection direction) {
+            var sources = switch (direction) {
+                case CLOCKWISE -> new PlanarAccessor<>(BOTTOM, TOP, LEFT, RIGHT);
+                case COUNTER_CLOCKWISE -> new PlanarAccessor<>(TOP, BOTTOM, RIGHT, LEFT);
+                case DOUBLE -> new PlanarAccessor<>(RIGHT, LEFT, BOTTOM, TOP);
+            };
+            return Stream.of(PlanarOrientation.values()).mapToInt(target -> sources.at(target).ordinal()).toArray();
+        }
     }
 }
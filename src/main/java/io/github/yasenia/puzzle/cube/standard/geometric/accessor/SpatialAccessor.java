@@ -5,6 +5,7 @@ import io.github.yasenia.puzzle.cube.standard.geometric.rotation.RotateDirection
 
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.BACK;
 import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.DOWN;
@@ -26,12 +27,15 @@ public class SpatialAccessor<T> implements OrientationAccessible<SpatialOrientat
      */
     public static final SpatialAccessor<SpatialOrientation> SPATIAL_ORIENTATIONS = new SpatialAccessor<>(UP, DOWN, LEFT, RIGHT, FRONT, BACK);
 
-    private final Supplier<T> upSupplier;
-    private final Supplier<T> downSupplier;
-    private final Supplier<T> leftSupplier;
-    private final Supplier<T> rightSupplier;
-    private final Supplier<T> frontSupplier;
-    private final Supplier<T> backSupplier;
+    /**
+     * The suppliers of a lazy accessor indexed by {@link SpatialOrientation#ordinal()}, or {@code null} for a materialized accessor.
+     */
+    private final Supplier<T>[] suppliers;
+
+    /**
+     * The objects of a materialized accessor indexed by {@link SpatialOrientation#ordinal()}, or {@code null} for a lazy accessor.
+     */
+    private final Object[] values;
 
     /**
      * Constructs a SpatialAccessor with suppliers for each direction.
@@ -47,17 +51,13 @@ public class SpatialAccessor<T> implements OrientationAccessible<SpatialOrientat
      * @param frontSupplier the supplier of the object associated with the front direction.
      * @param backSupplier  the supplier of the object associated with the back direction.
      */
+    @SuppressWarnings("unchecked")
     public SpatialAccessor(Supplier<T> upSupplier, Supplier<T> downSupplier, Supplier<T> leftSupplier, Supplier<T> rightSupplier, Supplier<T> frontSupplier, Supplier<T> backSupplier) {
-        this.upSupplier = upSupplier;
-        this.downSupplier = downSupplier;
-        this.leftSupplier = leftSupplier;
-        this.rightSupplier = rightSupplier;
-        this.frontSupplier = frontSupplier;
-        this.backSupplier = backSupplier;
+        this((Supplier<T>[]) new Supplier<?>[] {upSupplier, downSupplier, leftSupplier, rightSupplier, frontSupplier, backSupplier}, null);
     }
 
     /**
-     * Constructs a SpatialAccessor with a concrete object for each direction.
+     * Constructs a materialized SpatialAccessor with a concrete object for each direction.
      *
      * @param up    the object associated with the up direction.
      * @param down  the object associated with the down direction.
@@ -67,7 +67,7 @@ public class SpatialAccessor<T> implements OrientationAccessible<SpatialOrientat
      * @param back  the object associated with the back direction.
      */
     public SpatialAccessor(T up, T down, T left, T right, T front, T back) {
-        this(() -> up, () -> down, () -> left, () -> right, () -> front, () -> back);
+        this(null, new Object[] {up, down, left, right, front, back});
     }
 
     /**
@@ -84,46 +84,73 @@ public class SpatialAccessor<T> implements OrientationAccessible<SpatialOrientat
         this(() -> accessible.at(UP), () -> accessible.at(DOWN), () -> accessible.at(LEFT), () -> accessible.at(RIGHT), () -> accessible.at(FRONT), () -> accessible.at(BACK));
     }
 
+    private SpatialAccessor(Supplier<T>[] suppliers, Object[] values) {
+        this.suppliers = suppliers;
+        this.values = values;
+    }
+
     public T up() {
-        return upSupplier.get();
+        return at(UP);
     }
 
     public T down() {
-        return downSupplier.get();
+        return at(DOWN);
     }
 
     public T left() {
-        return leftSupplier.get();
+        return at(LEFT);
     }
 
     public T right() {
-        return rightSupplier.get();
+        return at(RIGHT);
     }
 
     public T front() {
-        return frontSupplier.get();
+        return at(FRONT);
     }
 
     public T back() {
-        return backSupplier.get();
+        return at(BACK);
     }
 
     /**
      * Returns the associated object in the specified spatial orientation.
      *
+     * <p>
+     * A materialized accessor answers with a single array load, while a lazy accessor invokes the supplier of the orientation.
+     *
      * @param orientation the spatial orientation.
      * @return the associated object in the specified orientation.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public T at(SpatialOrientation orientation) {
-        return switch (orientation) {
-            case UP -> up();
-            case DOWN -> down();
-            case LEFT -> left();
-            case RIGHT -> right();
-            case FRONT -> front();
-            case BACK -> back();
-        };
+        var index = orientation.ordinal();
+        return this.values != null ? (T) this.values[index] : this.suppliers[index].get();
+    }
+
+    /**
+     * Evaluates the associated objects once and returns a SpatialAccessor backed by an array of the results.
+     *
+     * <p>
+     * Lazy accessors, such as those created from suppliers or by {@link #map(Function)}, evaluate their suppliers on every access.
+     * Materializing one makes the evaluation cost explicit and paid exactly once, after which every access is an array load.
+     * Materializing an accessor that is already materialized returns the accessor itself.
+     *
+     * @return a materialized SpatialAccessor holding the current associated objects.
+     */
+    public SpatialAccessor<T> materialize() {
+        if (isMaterialized()) return this;
+        return new SpatialAccessor<>(up(), down(), left(), right(), front(), back());
+    }
+
+    /**
+     * Checks whether this accessor is materialized, that is backed by an array of concrete objects rather than by suppliers.
+     *
+     * @return true if this accessor is materialized, false if it is lazy.
+     */
+    public boolean isMaterialized() {
+        return this.values != null;
     }
 
     /**
@@ -135,6 +162,10 @@ public class SpatialAccessor<T> implements OrientationAccessible<SpatialOrientat
      * transformed associations. This method is useful for converting the types of the associated objects or
      * performing some computations on them before creating a new SpatialAccessor instance.
      *
+     * <p>
+     * The returned accessor is lazy: the function is applied on every access. Call {@link #materialize()} on the result
+     * when the transformed objects are read repeatedly.
+     *
      * @param mapper the function to apply to the associated objects.
      * @return a new SpatialAccessor instance with the transformed associations.
      */
@@ -150,19 +181,53 @@ public class SpatialAccessor<T> implements OrientationAccessible<SpatialOrientat
      * The associated objects are rearranged based on the rotation orientation and direction specified.
      * This method provides a mechanism to change the spatial arrangement of the associated objects.
      *
+     * <p>
+     * The rotation permutes the underlying suppliers or objects by a precomputed index permutation instead of wrapping them,
+     * so any number of successive rotations still answers each access in constant time and constant stack depth.
+     *
      * @param orientation the orientation around which the rotation is to be performed.
      * @param direction   the direction to rotate the associated objects.
      * @return a new SpatialAccessor representing the baseState after rotation.
      */
     public SpatialAccessor<T> rotate(SpatialOrientation orientation, RotateDirection direction) {
-        var around = PlanarAccessor.PLANAR_ORIENTATIONS.rotate(direction).map(orientation::backProject).map(this::at);
-        return switch (orientation) {
-            case UP -> new SpatialAccessor<>(this::up, this::down, around::left, around::right, around::bottom, around::top);
-            case DOWN -> new SpatialAccessor<>(this::up, this::down, around::left, around::right, around::top, around::bottom);
-            case LEFT -> new SpatialAccessor<>(around::top, around::bottom, this::left, this::right, around::right, around::left);
-            case RIGHT -> new SpatialAccessor<>(around::top, around::bottom, this::right, this::left, around::left, around::right);
-            case FRONT -> new SpatialAccessor<>(around::top, around::bottom, around::left, around::right, this::front, this::back);
-            case BACK -> new SpatialAccessor<>(around::top, around::bottom, around::right, around::left, this::back, this::front);
-        };
+        var sources = RotationSources.OF_ROTATION[orientation.ordinal()][direction.ordinal()];
+        return isMaterialized()
+            ? new SpatialAccessor<>(null, permute(this.values, sources))
+            : new SpatialAccessor<>(permute(this.suppliers, sources), null);
+    }
+
+    private static <E> E[] permute(E[] elements, int[] sources) {
+        var permuted = elements.clone();
+        for (int target = 0; target < sources.length; target++) {
+            permuted[target] = elements[sources[target]];
+        }
+        return permuted;
+    }
+
+    /**
+     * The index permutations applied by {@link #rotate(SpatialOrientation, RotateDirection)}, mapping each target ordinal to its source ordinal.
+     *
+     * <p>
+     * They are held in a nested class so that they are only computed on first rotation, after the orientations they are
+     * derived from have completed their own initialization.
+     */
+    private static final class RotationSources {
+
+        private static final int[][][] OF_ROTATION = Stream.of(SpatialOrientation.values())
+            .map(orientation -> Stream.of(RotateDirection.values()).map(direction -> sourcesOf(orientation, direction)).toArray(int[][]::new))
+            .toArray(int[][][]::new);
+
+        private static int[] sourcesOf(SpatialOrientation orientation, RotateDirection direction) {
+            var around = PlanarAccessor.PLANAR_ORIENTATIONS.rotate(direction).map(orientation::backProject);
+            var sources = switch (orientation) {
+                case UP -> new SpatialAccessor<>(UP, DOWN, around.left(), around.right(), around.bottom(), around.top());
+                case DOWN -> new SpatialAccessor<>(UP, DOWN, around.left(), around.right(), around.top(), around.bottom());
+                case LEFT -> new SpatialAccessor<>(around.top(), around.bottom(), LEFT, RIGHT, around.right(), around.left());
+                case RIGHT -> new SpatialAccessor<>(around.top(), around.bottom(), RIGHT, LEFT, around.left(), around.right());
+                case FRONT -> new SpatialAccessor<>(around.top(), around.bottom(), around.left(), around.right(), FRONT, BACK);
+                case BACK -> new SpatialAccessor<>(around.top(), around.bottom(), around.right(), around.left(), BACK, FRONT);
+            };
+            return Stream.of(SpatialOrientation.values()).mapToInt(target -> sources.at(target).ordinal()).toArray();
+        }
     }
 }
@@ -2,9 +2,12 @@ package io.github.yasenia.puzzle.cube.standard.rubiks;
 
 import io.github.yasenia.puzzle.cube.standard.Cube;
 import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.impl.MutableRubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.impl.PackedRubiksCube;
 import io.github.yasenia.puzzle.cube.standard.rubiks.impl.RubiksCubeImpl;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -17,16 +20,37 @@ public interface RubiksCube extends Cube.Odd<RubiksCube, RubiksRotation, RubiksF
 
     /**
      * Rotates the Rubik's Cube using a list of RubiksRotation operations.
-     * This method recursively applies each rotation in the list to the cube.
-     * If the list of rotations is empty, it returns the cube itself.
+     * The rotations are executed iteratively on packed primitive state, without building an intermediate cube per rotation,
+     * so latency grows linearly with the number of rotations while the stack depth stays constant.
      *
      * @param rotations the list of RubiksRotation operations to be applied
-     * @return the Rubik's Cube after applying all the rotations
+     * @return the Rubik's Cube after applying all the rotations, which may be of a different implementation than this cube
      */
     @Override
     default RubiksCube rotate(List<RubiksRotation> rotations) {
-        if (rotations.isEmpty()) return this;
-        return rotate(rotations.get(0)).rotate(rotations.subList(1, rotations.size()));
+        return PackedRubiksCube.of(this).rotate(rotations);
+    }
+
+    /**
+     * Rotates the Rubik's Cube using an array of RubiksRotation operations, in the same way as {@link #rotate(List)}.
+     *
+     * @param rotations the array of RubiksRotation operations to be applied
+     * @return the Rubik's Cube after applying all the rotations, which may be of a different implementation than this cube
+     */
+    default RubiksCube rotate(RubiksRotation[] rotations) {
+        return PackedRubiksCube.of(this).rotate(rotations);
+    }
+
+    /**
+     * Rotates the Rubik's Cube using a stream of encoded RubiksRotation operations, in the same way as {@link #rotate(List)}.
+     * Each rotation is encoded as its {@link RubiksRotation#ordinal()}, which lets long move logs be replayed without boxing.
+     *
+     * @param rotations the stream of rotation ordinals to be applied, consumed in encounter order
+     * @return the Rubik's Cube after applying all the rotations, which may be of a different implementation than this cube
+     * @throws ArrayIndexOutOfBoundsException if the stream contains an invalid ordinal
+     */
+    default RubiksCube rotate(IntStream rotations) {
+        return PackedRubiksCube.of(this).rotate(rotations);
     }
 
     /**
@@ -40,4 +64,14 @@ public interface RubiksCube extends Cube.Odd<RubiksCube, RubiksRotation, RubiksF
     default boolean isSolved() {
         return Stream.of(SpatialOrientation.values()).allMatch(orientation -> faces().at(orientation).isSolved());
     }
+
+    /**
+     * Creates a mutable copy of the Rubik's Cube, which applies and undoes rotations in place.
+     * It is intended for search loops that would otherwise allocate a new cube per visited node.
+     *
+     * @return a new mutable cube in the same state as this cube
+     */
+    default MutableRubiksCube toMutable() {
+        return MutableRubiksCube.of(this);
+    }
 }
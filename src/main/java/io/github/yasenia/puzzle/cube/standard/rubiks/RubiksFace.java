@@ -5,10 +5,15 @@ import io.github.yasenia.puzzle.cube.standard.geometric.accessor.PlanarAccessor;
 import io.github.yasenia.support.tupple.Triple;
 
 import java.util.Objects;
-import java.util.function.Supplier;
-
-import static io.github.yasenia.support.functional.Memoization.memoize;
 
+/**
+ * A face of a Rubik's cube, made of nine facelets.
+ *
+ * <p>Faces are immutable, and their rows, columns and sides are derived from the facelets on first access, then cached in
+ * plain fields with the racy single-check idiom. This is safe because the derived values are immutable: threads racing on
+ * the first access may each build them, but always observe equal values. Since the faces of cubes are interned by face code,
+ * reading them again allocates nothing.
+ */
 public class RubiksFace implements Face.Odd<RubiksFacelet> {
 
     public final RubiksFacelet leftTop;
@@ -20,9 +25,9 @@ public class RubiksFace implements Face.Odd<RubiksFacelet> {
     public final RubiksFacelet leftBottom;
     public final RubiksFacelet bottom;
     public final RubiksFacelet rightBottom;
-    private final Supplier<Triple<Triple<RubiksFacelet>>> rows;
-    private final Supplier<Triple<Triple<RubiksFacelet>>> columns;
-    private final Supplier<PlanarAccessor<Triple<RubiksFacelet>>> sides;
+    private Triple<Triple<RubiksFacelet>> rows;
+    private Triple<Triple<RubiksFacelet>> columns;
+    private PlanarAccessor<Triple<RubiksFacelet>> sides;
 
     public RubiksFace(RubiksFacelet leftTop, RubiksFacelet top, RubiksFacelet rightTop,
                       RubiksFacelet left, RubiksFacelet center, RubiksFacelet right,
@@ -36,22 +41,6 @@ public class RubiksFace implements Face.Odd<RubiksFacelet> {
         this.leftBottom = leftBottom;
         this.bottom = bottom;
         this.rightBottom = rightBottom;
-        this.columns = memoize(() -> Triple.of(
-            Triple.of(leftTop, left, leftBottom),
-            Triple.of(top, center, bottom),
-            Triple.of(rightTop, right, rightBottom)
-        ));
-        this.rows = memoize(() -> Triple.of(
-            Triple.of(leftTop, top, rightTop),
-            Triple.of(left, center, right),
-            Triple.of(leftBottom, bottom, rightBottom)
-        ));
-        this.sides = memoize(() -> new PlanarAccessor<>(
-            new Triple<>(leftBottom, left, leftTop),
-            new Triple<>(rightTop, right, rightBottom),
-            new Triple<>(leftTop, top, rightTop),
-            new Triple<>(rightBottom, bottom, leftBottom)
-        ));
     }
 
     @Override
@@ -59,6 +48,15 @@ public class RubiksFace implements Face.Odd<RubiksFacelet> {
         return this.center;
     }
 
+    /**
+     * Returns a new array of the nine facelets, row by row from the left top one.
+     *
+     * <p>The array is copied on every call, because an array cannot be made read-only and faces are interned: a shared array
+     * modified by one caller would corrupt the face of every cube. Callers reading single facelets should prefer
+     * {@link #facelet(int)}, which allocates nothing.
+     *
+     * @return the facelets of this face
+     */
     @Override
     public RubiksFacelet[] facelets() {
         return new RubiksFacelet[] {
@@ -74,6 +72,27 @@ public class RubiksFace implements Face.Odd<RubiksFacelet> {
         };
     }
 
+    /**
+     * Returns a facelet by its position in the array returned by {@link #facelets()}.
+     *
+     * @param position the position of the facelet, row by row from 0 for the left top one to 8 for the right bottom one
+     * @return the facelet at the position
+     */
+    public RubiksFacelet facelet(int position) {
+        return switch (position) {
+            case 0 -> leftTop;
+            case 1 -> top;
+            case 2 -> rightTop;
+            case 3 -> left;
+            case 4 -> center;
+            case 5 -> right;
+            case 6 -> leftBottom;
+            case 7 -> bottom;
+            case 8 -> rightBottom;
+            default -> throw new IndexOutOfBoundsException("Facelet position out of range: " + position);
+        };
+    }
+
     public boolean isSolved() {
         return Objects.equals(center, left)
             && Objects.equals(center, right)
@@ -86,15 +105,43 @@ public class RubiksFace implements Face.Odd<RubiksFacelet> {
     }
 
     public PlanarAccessor<Triple<RubiksFacelet>> sides() {
-        return sides.get();
+        var result = this.sides;
+        if (result == null) {
+            result = new PlanarAccessor<>(
+                new Triple<>(leftBottom, left, leftTop),
+                new Triple<>(rightTop, right, rightBottom),
+                new Triple<>(leftTop, top, rightTop),
+                new Triple<>(rightBottom, bottom, leftBottom)
+            );
+            this.sides = result;
+        }
+        return result;
     }
 
     public Triple<Triple<RubiksFacelet>> rows() {
-        return rows.get();
+        var result = this.rows;
+        if (result == null) {
+            result = Triple.of(
+                Triple.of(leftTop, top, rightTop),
+                Triple.of(left, center, right),
+                Triple.of(leftBottom, bottom, rightBottom)
+            );
+            this.rows = result;
+        }
+        return result;
     }
 
     public Triple<Triple<RubiksFacelet>> columns() {
-        return columns.get();
+        var result = this.columns;
+        if (result == null) {
+            result = Triple.of(
+                Triple.of(leftTop, left, leftBottom),
+                Triple.of(top, center, bottom),
+                Triple.of(rightTop, right, rightBottom)
+            );
+            this.columns = result;
+        }
+        return result;
     }
 
     @Override
@@ -109,6 +156,16 @@ public class RubiksFace implements Face.Odd<RubiksFacelet> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(leftTop, top, rightTop, left, center, right, leftBottom, bottom, rightBottom);
+        // Equivalent to Objects.hash over the nine facelets, without allocating the varargs array.
+        var result = 1;
+        result = 31 * result + Objects.hashCode(leftTop);
+        result = 31 * result + Objects.hashCode(top);
+        result = 31 * result + Objects.hashCode(rightTop);
+        result = 31 * result + Objects.hashCode(left);
+        result = 31 * result + Objects.hashCode(center);
+        result = 31 * result + Objects.hashCode(right);
+        result = 31 * result + Objects.hashCode(leftBottom);
+        result = 31 * result + Objects.hashCode(bottom);
+        return 31 * result + Objects.hashCode(rightBottom);
     }
 }
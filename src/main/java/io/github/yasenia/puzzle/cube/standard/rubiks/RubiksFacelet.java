@@ -6,5 +6,5 @@ import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrien
 
 public record RubiksFacelet(SpatialOrientation originalOrientation) implements Facelet {
 
-    public static final SpatialAccessor<RubiksFacelet> RUBIKS_FACELETS = SpatialAccessor.SPATIAL_ORIENTATIONS.map(RubiksFacelet::new);
+    public static final SpatialAccessor<RubiksFacelet> RUBIKS_FACELETS = SpatialAccessor.SPATIAL_ORIENTATIONS.map(RubiksFacelet::new).materialize();
 }
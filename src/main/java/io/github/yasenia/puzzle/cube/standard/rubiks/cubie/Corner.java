@@ -0,0 +1,62 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.cubie;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.BACK;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.DOWN;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.FRONT;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.LEFT;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.RIGHT;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.UP;
+
+/**
+ * The eight corner cubies of a Rubik's Cube, which also name the eight corner positions they occupy on the solved cube.
+ *
+ * <p>
+ * Each corner lists its three faces clockwise, starting with its {@link SpatialOrientation#UP} or {@link SpatialOrientation#DOWN}
+ * face, which is the reference of its orientation: a corner is twisted by {@code k} when its reference facelet lies on its
+ * {@code k}-th face, counting clockwise.
+ */
+public enum Corner {
+
+    URF(UP, RIGHT, FRONT),
+    UFL(UP, FRONT, LEFT),
+    ULB(UP, LEFT, BACK),
+    UBR(UP, BACK, RIGHT),
+    DFR(DOWN, FRONT, RIGHT),
+    DLF(DOWN, LEFT, FRONT),
+    DBL(DOWN, BACK, LEFT),
+    DRB(DOWN, RIGHT, BACK);
+
+    private final SpatialOrientation[] faces;
+    private final int[] faceletIndices;
+
+    Corner(SpatialOrientation first, SpatialOrientation second, SpatialOrientation third) {
+        this.faces = new SpatialOrientation[] {first, second, third};
+        this.faceletIndices = new int[] {
+            CubieGeometry.faceletIndex(first, second, third),
+            CubieGeometry.faceletIndex(second, first, third),
+            CubieGeometry.faceletIndex(third, first, second)
+        };
+    }
+
+    /**
+     * Returns a face of this corner.
+     *
+     * @param index the index of the face, from 0 (reference face) to 2, counting clockwise
+     * @return the face
+     */
+    public SpatialOrientation face(int index) {
+        return this.faces[index];
+    }
+
+    /**
+     * Returns the index of a facelet of this corner position, as defined by {@link io.github.yasenia.puzzle.cube.standard.rubiks.impl.RubiksMoveTables}.
+     *
+     * @param index the index of the face holding the facelet, from 0 (reference face) to 2, counting clockwise
+     * @return the facelet index, from 0 to 53
+     */
+    public int faceletIndex(int index) {
+        return this.faceletIndices[index];
+    }
+}
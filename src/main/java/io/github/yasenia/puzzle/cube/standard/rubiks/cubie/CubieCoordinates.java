@@ -0,0 +1,144 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.cubie;
+
+/**
+ * Utility class ranking cubie permutations and orientations into dense integer coordinates, and unranking them back.
+ *
+ * <p>
+ * Permutations are ranked with the linear-time algorithm of Myrvold and Ruskey, adjusted so that the identity ranks to 0.
+ * The ranks are dense but not lexicographic. Orientations are ranked as base-3 (corners) or base-2 (edges) numbers over all
+ * cubies but the last one, whose orientation is implied by the others on any solvable cube.
+ */
+public final class CubieCoordinates {
+
+    public static final int CORNER_COUNT = 8;
+    public static final int EDGE_COUNT = 12;
+
+    /**
+     * The number of corner permutation coordinates, 8!.
+     */
+    public static final int CORNER_PERMUTATIONS = 40_320;
+
+    /**
+     * The number of corner orientation coordinates, 3^7.
+     */
+    public static final int CORNER_ORIENTATIONS = 2_187;
+
+    /**
+     * The number of edge permutation coordinates, 12!.
+     */
+    public static final int EDGE_PERMUTATIONS = 479_001_600;
+
+    /**
+     * The number of edge orientation coordinates, 2^11.
+     */
+    public static final int EDGE_ORIENTATIONS = 2_048;
+
+    private CubieCoordinates() {
+    }
+
+    /**
+     * Ranks a permutation in linear time.
+     *
+     * @param permutation the permutation of {@code 0} to {@code n - 1}, with {@code n} at most 12, left unchanged
+     * @return the rank, from {@code 0} for the identity to {@code n! - 1}
+     */
+    public static int rankPermutation(byte[] permutation) {
+        var length = permutation.length;
+        var values = permutation.clone();
+        var positions = new byte[length];
+        for (int position = 0; position < length; position++) {
+            positions[values[position]] = (byte) position;
+        }
+        var rank = 0;
+        var radix = 1;
+        for (int size = length; size > 1; size--) {
+            // The unranking step of this size moved the value of position (last - digit) to the last position, where later
+            // steps, which only permute lower positions, left it. Exchanging it back with the value last undoes the step.
+            var last = size - 1;
+            var value = values[last];
+            var position = positions[last];
+            values[last] = (byte) last;
+            values[position] = value;
+            positions[value] = position;
+            positions[last] = (byte) last;
+            rank += (last - value) * radix;
+            radix *= size;
+        }
+        return rank;
+    }
+
+    /**
+     * Unranks a permutation in linear time, as the inverse of {@link #rankPermutation(byte[])}.
+     *
+     * @param rank        the rank, from {@code 0} to {@code n! - 1}
+     * @param permutation the array receiving the permutation of {@code 0} to {@code n - 1}
+     */
+    public static void unrankPermutation(int rank, byte[] permutation) {
+        var length = permutation.length;
+        for (int position = 0; position < length; position++) {
+            permutation[position] = (byte) position;
+        }
+        for (int size = length; size > 1; size--) {
+            var last = size - 1;
+            var position = last - rank % size;
+            var swapped = permutation[last];
+            permutation[last] = permutation[position];
+            permutation[position] = swapped;
+            rank /= size;
+        }
+    }
+
+    /**
+     * Returns the parity of a permutation, computed from its cycle decomposition in linear time.
+     *
+     * @param permutation the permutation of {@code 0} to {@code n - 1}, with {@code n} at most 64
+     * @return 0 for an even permutation, 1 for an odd one
+     */
+    public static int parity(byte[] permutation) {
+        var visited = 0L;
+        var parity = 0;
+        for (int start = 0; start < permutation.length; start++) {
+            if ((visited & (1L << start)) != 0) continue;
+            for (int index = start; (visited & (1L << index)) == 0; index = permutation[index]) {
+                visited |= 1L << index;
+                parity ^= 1;
+            }
+            // A cycle of length k is made of k - 1 transpositions.
+            parity ^= 1;
+        }
+        return parity;
+    }
+
+    /**
+     * Ranks the orientations of all cubies but the last one, as a number in the given base.
+     *
+     * @param orientation the orientations, from {@code 0} to {@code base - 1}
+     * @param base        the number of orientations of a cubie, 3 for corners and 2 for edges
+     * @return the rank, from {@code 0} to {@code base^(n - 1) - 1}
+     */
+    public static int rankOrientation(byte[] orientation, int base) {
+        var rank = 0;
+        for (int index = 0; index < orientation.length - 1; index++) {
+            rank = rank * base + orientation[index];
+        }
+        return rank;
+    }
+
+    /**
+     * Unranks orientations, as the inverse of {@link #rankOrientation(byte[], int)}, deriving the orientation of the last cubie
+     * so that the orientations sum to a multiple of the base.
+     *
+     * @param rank        the rank, from {@code 0} to {@code base^(n - 1) - 1}
+     * @param base        the number of orientations of a cubie, 3 for corners and 2 for edges
+     * @param orientation the array receiving the orientations
+     */
+    public static void unrankOrientation(int rank, int base, byte[] orientation) {
+        var sum = 0;
+        for (int index = orientation.length - 2; index >= 0; index--) {
+            orientation[index] = (byte) (rank % base);
+            sum += orientation[index];
+            rank /= base;
+        }
+        orientation[orientation.length - 1] = (byte) ((base - sum % base) % base);
+    }
+}
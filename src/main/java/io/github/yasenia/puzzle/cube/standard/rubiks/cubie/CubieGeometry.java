@@ -0,0 +1,47 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.cubie;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.PlanarOrientation;
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.impl.RubiksMoveTables;
+
+/**
+ * Locates the facelets of cubies from the geometric model, so that cubie positions never depend on hand-written indices.
+ */
+final class CubieGeometry {
+
+    private CubieGeometry() {
+    }
+
+    /**
+     * Returns the index of the facelet lying on a face and bordering the given adjacent faces.
+     *
+     * @param face       the face holding the facelet
+     * @param neighbours the adjacent faces the facelet borders: two for a corner facelet, one for an edge facelet
+     * @return the facelet index, as defined by {@link RubiksMoveTables}
+     */
+    static int faceletIndex(SpatialOrientation face, SpatialOrientation... neighbours) {
+        var row = 1;
+        var column = 1;
+        for (var neighbour : neighbours) {
+            var orientation = planarOrientationOf(face, neighbour);
+            row = switch (orientation) {
+                case TOP -> 0;
+                case BOTTOM -> 2;
+                default -> row;
+            };
+            column = switch (orientation) {
+                case LEFT -> 0;
+                case RIGHT -> 2;
+                default -> column;
+            };
+        }
+        return RubiksMoveTables.faceletIndex(face, row * 3 + column);
+    }
+
+    private static PlanarOrientation planarOrientationOf(SpatialOrientation face, SpatialOrientation neighbour) {
+        for (var orientation : PlanarOrientation.values()) {
+            if (face.at(orientation) == neighbour) return orientation;
+        }
+        throw new IllegalArgumentException(neighbour + " is not adjacent to " + face);
+    }
+}
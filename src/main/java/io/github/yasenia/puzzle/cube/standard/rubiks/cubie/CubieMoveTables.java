@@ -0,0 +1,114 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.cubie;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.CORNER_COUNT;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.CORNER_ORIENTATIONS;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.CORNER_PERMUTATIONS;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.EDGE_COUNT;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.EDGE_ORIENTATIONS;
+
+/**
+ * Precomputed coordinate move tables, mapping a coordinate and a {@link RubiksRotation} to the coordinate after the rotation.
+ *
+ * <p>
+ * Each table is an {@code int} array indexed by {@code coordinate * 18 + rotation.ordinal()}, built from the cubie moves of
+ * {@link RubiksCubies} the first time it is used, so a search only pays for the tables it needs. The edge permutation has no
+ * table, as 12! coordinates would not fit in memory; it is moved through {@link RubiksCubies} instead.
+ */
+public final class CubieMoveTables {
+
+    public static final int ROTATION_COUNT = RubiksRotation.values().length;
+
+    private static final Corner[] CORNERS = Corner.values();
+    private static final Edge[] EDGES = Edge.values();
+
+    private CubieMoveTables() {
+    }
+
+    /**
+     * Moves a corner permutation coordinate.
+     *
+     * @param cornerPermutation the corner permutation coordinate
+     * @param rotation          the rotation to apply
+     * @return the corner permutation coordinate after the rotation
+     */
+    public static int moveCornerPermutation(int cornerPermutation, RubiksRotation rotation) {
+        return CornerPermutationTable.TABLE[cornerPermutation * ROTATION_COUNT + rotation.ordinal()];
+    }
+
+    /**
+     * Moves a corner orientation coordinate.
+     *
+     * @param cornerOrientation the corner orientation coordinate
+     * @param rotation          the rotation to apply
+     * @return the corner orientation coordinate after the rotation
+     */
+    public static int moveCornerOrientation(int cornerOrientation, RubiksRotation rotation) {
+        return CornerOrientationTable.TABLE[cornerOrientation * ROTATION_COUNT + rotation.ordinal()];
+    }
+
+    /**
+     * Moves an edge orientation coordinate.
+     *
+     * @param edgeOrientation the edge orientation coordinate
+     * @param rotation        the rotation to apply
+     * @return the edge orientation coordinate after the rotation
+     */
+    public static int moveEdgeOrientation(int edgeOrientation, RubiksRotation rotation) {
+        return EdgeOrientationTable.TABLE[edgeOrientation * ROTATION_COUNT + rotation.ordinal()];
+    }
+
+    private static int[] permutationTable(int coordinates, int length, boolean corners) {
+        var table = new int[coordinates * ROTATION_COUNT];
+        var permutation = new byte[length];
+        var moved = new byte[length];
+        for (int coordinate = 0; coordinate < coordinates; coordinate++) {
+            CubieCoordinates.unrankPermutation(coordinate, permutation);
+            for (var rotation : RubiksRotation.values()) {
+                var move = RubiksCubies.of(rotation);
+                for (int position = 0; position < length; position++) {
+                    var source = corners ? move.cornerAt(CORNERS[position]).ordinal() : move.edgeAt(EDGES[position]).ordinal();
+                    moved[position] = permutation[source];
+                }
+                table[coordinate * ROTATION_COUNT + rotation.ordinal()] = CubieCoordinates.rankPermutation(moved);
+            }
+        }
+        return table;
+    }
+
+    private static int[] orientationTable(int coordinates, int length, int base) {
+        var table = new int[coordinates * ROTATION_COUNT];
+        var orientation = new byte[length];
+        var moved = new byte[length];
+        for (int coordinate = 0; coordinate < coordinates; coordinate++) {
+            CubieCoordinates.unrankOrientation(coordinate, base, orientation);
+            for (var rotation : RubiksRotation.values()) {
+                var move = RubiksCubies.of(rotation);
+                for (int position = 0; position < length; position++) {
+                    if (base == 3) {
+                        var corner = CORNERS[position];
+                        moved[position] = (byte) ((orientation[move.cornerAt(corner).ordinal()] + move.twistAt(corner)) % 3);
+                    } else {
+                        var edge = EDGES[position];
+                        moved[position] = (byte) ((orientation[move.edgeAt(edge).ordinal()] + move.flipAt(edge)) % 2);
+                    }
+                }
+                table[coordinate * ROTATION_COUNT + rotation.ordinal()] = CubieCoordinates.rankOrientation(moved, base);
+            }
+        }
+        return table;
+    }
+
+    private static final class CornerPermutationTable {
+        private static final int[] TABLE = permutationTable(CORNER_PERMUTATIONS, CORNER_COUNT, true);
+    }
+
+    private static final class CornerOrientationTable {
+        private static final int[] TABLE = orientationTable(CORNER_ORIENTATIONS, CORNER_COUNT, 3);
+    }
+
+    private static final class EdgeOrientationTable {
+        private static final int[] TABLE = orientationTable(EDGE_ORIENTATIONS, EDGE_COUNT, 2);
+    }
+}
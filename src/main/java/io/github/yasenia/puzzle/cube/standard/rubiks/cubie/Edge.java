@@ -0,0 +1,64 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.cubie;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.BACK;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.DOWN;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.FRONT;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.LEFT;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.RIGHT;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.UP;
+
+/**
+ * The twelve edge cubies of a Rubik's Cube, which also name the twelve edge positions they occupy on the solved cube.
+ *
+ * <p>
+ * Each edge lists its two faces, starting with the reference of its orientation: an edge is flipped when its first
+ * facelet does not lie on the first face of the position it occupies.
+ */
+public enum Edge {
+
+    UR(UP, RIGHT),
+    UF(UP, FRONT),
+    UL(UP, LEFT),
+    UB(UP, BACK),
+    DR(DOWN, RIGHT),
+    DF(DOWN, FRONT),
+    DL(DOWN, LEFT),
+    DB(DOWN, BACK),
+    FR(FRONT, RIGHT),
+    FL(FRONT, LEFT),
+    BL(BACK, LEFT),
+    BR(BACK, RIGHT);
+
+    private final SpatialOrientation[] faces;
+    private final int[] faceletIndices;
+
+    Edge(SpatialOrientation first, SpatialOrientation second) {
+        this.faces = new SpatialOrientation[] {first, second};
+        this.faceletIndices = new int[] {
+            CubieGeometry.faceletIndex(first, second),
+            CubieGeometry.faceletIndex(second, first)
+        };
+    }
+
+    /**
+     * Returns a face of this edge.
+     *
+     * @param index the index of the face, 0 for the reference face or 1
+     * @return the face
+     */
+    public SpatialOrientation face(int index) {
+        return this.faces[index];
+    }
+
+    /**
+     * Returns the index of a facelet of this edge position, as defined by {@link io.github.yasenia.puzzle.cube.standard.rubiks.impl.RubiksMoveTables}.
+     *
+     * @param index the index of the face holding the facelet, 0 for the reference face or 1
+     * @return the facelet index, from 0 to 53
+     */
+    public int faceletIndex(int index) {
+        return this.faceletIndices[index];
+    }
+}
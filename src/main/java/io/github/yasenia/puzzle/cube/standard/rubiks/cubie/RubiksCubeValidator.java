@@ -0,0 +1,197 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.cubie;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.impl.RubiksMoveTables;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.BACK;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.DOWN;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.FRONT;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.LEFT;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.RIGHT;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.UP;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.CORNER_COUNT;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.EDGE_COUNT;
+
+/**
+ * Utility class checking that facelet states are solvable Rubik's Cubes, so that bad inputs are rejected before any search.
+ *
+ * <p>
+ * A state is checked in a single pass over its 54 facelets, followed by a pass over its 20 cubies, without building any
+ * cube: colors are identified by the centers showing them, every color must be shown by nine facelets, every position must
+ * hold a distinct existing cubie, and the cubies must satisfy the three invariants of the cube group, which are equal corner
+ * and edge permutation parities, a twist sum divisible by 3 and a flip sum divisible by 2. Cubie checks only run on states
+ * passing the color checks, and invariant checks only on states passing the cubie checks, so every reported error is a
+ * root cause.
+ *
+ * <p>
+ * Facelet strings follow the common {@code URFDLB} layout: 54 characters listing the faces in the order up, right, front,
+ * down, left and back, each row by row as seen from outside the cube, with the up face seen with the back face on top and
+ * the down face with the front face on top. Any six distinct characters may be used as colors, such as face letters or
+ * color initials, as colors are matched to faces by the centers showing them.
+ */
+public final class RubiksCubeValidator {
+
+    private static final SpatialOrientation[] STRING_FACE_ORDER = {UP, RIGHT, FRONT, DOWN, LEFT, BACK};
+    private static final int CENTER_POSITION = 4;
+
+    private RubiksCubeValidator() {
+    }
+
+    /**
+     * Validates a cube.
+     *
+     * @param cube the cube to validate
+     * @return the errors found, which is empty if and only if the cube is solvable
+     */
+    public static List<ValidationError> validate(RubiksCube cube) {
+        return validate(RubiksCubies.colorsOf(cube), new ArrayList<>());
+    }
+
+    /**
+     * Validates a facelet string.
+     *
+     * @param facelets the 54 facelets, in {@code URFDLB} layout
+     * @return the errors found, which is empty if and only if the string describes a solvable cube
+     */
+    public static List<ValidationError> validate(String facelets) {
+        var errors = new ArrayList<ValidationError>();
+        var colors = colorsOf(facelets, errors);
+        return colors == null ? List.copyOf(errors) : validate(colors, errors);
+    }
+
+    /**
+     * Parses a facelet string into a cube.
+     *
+     * @param facelets the 54 facelets, in {@code URFDLB} layout
+     * @return the cube described by the string
+     * @throws IllegalArgumentException if the string does not describe a solvable cube, listing every error found
+     */
+    public static RubiksCube parse(String facelets) {
+        var errors = new ArrayList<ValidationError>();
+        var colors = colorsOf(facelets, errors);
+        if (colors != null) validate(colors, errors);
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(errors.stream().map(ValidationError::message).collect(Collectors.joining("; ", "Invalid facelets: ", "")));
+        }
+        return RubiksCubies.of(colors).toCube();
+    }
+
+    /**
+     * Formats a cube into a facelet string, as the inverse of {@link #parse(String)}.
+     *
+     * @param cube the cube to format
+     * @return the 54 facelets of the cube in {@code URFDLB} layout, using the letters {@code U}, {@code R}, {@code F},
+     *     {@code D}, {@code L} and {@code B} as colors
+     */
+    public static String format(RubiksCube cube) {
+        var colors = RubiksCubies.colorsOf(cube);
+        var builder = new StringBuilder(RubiksMoveTables.FACELET_COUNT);
+        for (var face : STRING_FACE_ORDER) {
+            for (int position = 0; position < RubiksMoveTables.FACELETS_PER_FACE; position++) {
+                builder.append(colors[RubiksMoveTables.faceletIndex(face, position)].name().charAt(0));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static SpatialOrientation[] colorsOf(String facelets, List<ValidationError> errors) {
+        if (facelets.length() != RubiksMoveTables.FACELET_COUNT) {
+            errors.add(new ValidationError(ValidationError.Kind.MALFORMED_INPUT, "Expected " + RubiksMoveTables.FACELET_COUNT + " facelets but got " + facelets.length()));
+            return null;
+        }
+        var centers = new char[STRING_FACE_ORDER.length];
+        for (int face = 0; face < centers.length; face++) {
+            centers[face] = facelets.charAt(face * RubiksMoveTables.FACELETS_PER_FACE + CENTER_POSITION);
+            for (int other = 0; other < face; other++) {
+                if (centers[other] != centers[face]) continue;
+                errors.add(new ValidationError(ValidationError.Kind.MALFORMED_INPUT, "Centers of " + STRING_FACE_ORDER[other] + " and " + STRING_FACE_ORDER[face]
+                    + " both show '" + centers[face] + "'"));
+                return null;
+            }
+        }
+        var colors = new SpatialOrientation[RubiksMoveTables.FACELET_COUNT];
+        for (int index = 0; index < RubiksMoveTables.FACELET_COUNT; index++) {
+            var face = STRING_FACE_ORDER[index / RubiksMoveTables.FACELETS_PER_FACE];
+            var position = index % RubiksMoveTables.FACELETS_PER_FACE;
+            var sticker = facelets.charAt(index);
+            for (int center = 0; center < centers.length; center++) {
+                if (centers[center] == sticker) colors[RubiksMoveTables.faceletIndex(face, position)] = STRING_FACE_ORDER[center];
+            }
+            if (colors[RubiksMoveTables.faceletIndex(face, position)] == null) {
+                errors.add(new ValidationError(ValidationError.Kind.UNKNOWN_COLOR, "Facelet " + position + " of " + face + " shows '" + sticker + "', which no center shows"));
+            }
+        }
+        return colors;
+    }
+
+    private static List<ValidationError> validate(SpatialOrientation[] colors, List<ValidationError> errors) {
+        var counts = new int[SpatialOrientation.values().length];
+        for (var color : colors) {
+            if (color != null) counts[color.ordinal()]++;
+        }
+        for (var color : SpatialOrientation.values()) {
+            if (counts[color.ordinal()] == RubiksMoveTables.FACELETS_PER_FACE) continue;
+            errors.add(new ValidationError(ValidationError.Kind.COLOR_COUNT, "Color of " + color + " is shown by " + counts[color.ordinal()] + " facelets instead of 9"));
+        }
+        if (errors.isEmpty()) validateCubies(colors, errors);
+        return List.copyOf(errors);
+    }
+
+    private static void validateCubies(SpatialOrientation[] colors, List<ValidationError> errors) {
+        var cornerPermutation = new byte[CORNER_COUNT];
+        var edgePermutation = new byte[EDGE_COUNT];
+        var twists = 0;
+        var flips = 0;
+        var cornerPositions = new Corner[CORNER_COUNT];
+        for (var position : Corner.values()) {
+            var twist = 0;
+            while (twist < 3 && !RubiksCubies.isVertical(colors[position.faceletIndex(twist)])) twist++;
+            var corner = RubiksCubies.cornerOf(colors[position.faceletIndex(twist % 3)], colors[position.faceletIndex((twist + 1) % 3)], colors[position.faceletIndex((twist + 2) % 3)]);
+            if (corner == null) {
+                errors.add(new ValidationError(ValidationError.Kind.INVALID_CORNER, "Corner position " + position + " shows " + colors[position.faceletIndex(0)] + ", "
+                    + colors[position.faceletIndex(1)] + " and " + colors[position.faceletIndex(2)] + ", which no corner has"));
+                continue;
+            }
+            if (cornerPositions[corner.ordinal()] != null) {
+                errors.add(new ValidationError(ValidationError.Kind.DUPLICATE_CORNER, "Corner " + corner + " occupies both " + cornerPositions[corner.ordinal()] + " and " + position));
+            }
+            cornerPositions[corner.ordinal()] = position;
+            cornerPermutation[position.ordinal()] = (byte) corner.ordinal();
+            twists += twist;
+        }
+        var edgePositions = new Edge[EDGE_COUNT];
+        for (var position : Edge.values()) {
+            var first = colors[position.faceletIndex(0)];
+            var second = colors[position.faceletIndex(1)];
+            var edge = RubiksCubies.edgeOf(first, second);
+            if (edge == null) {
+                edge = RubiksCubies.edgeOf(second, first);
+                flips++;
+            }
+            if (edge == null) {
+                errors.add(new ValidationError(ValidationError.Kind.INVALID_EDGE, "Edge position " + position + " shows " + first + " and " + second + ", which no edge has"));
+                continue;
+            }
+            if (edgePositions[edge.ordinal()] != null) {
+                errors.add(new ValidationError(ValidationError.Kind.DUPLICATE_EDGE, "Edge " + edge + " occupies both " + edgePositions[edge.ordinal()] + " and " + position));
+            }
+            edgePositions[edge.ordinal()] = position;
+            edgePermutation[position.ordinal()] = (byte) edge.ordinal();
+        }
+        if (!errors.isEmpty()) return;
+        if (twists % 3 != 0) {
+            errors.add(new ValidationError(ValidationError.Kind.CORNER_TWIST, "Corner twists sum to " + twists + ", which is not a multiple of 3"));
+        }
+        if (flips % 2 != 0) {
+            errors.add(new ValidationError(ValidationError.Kind.EDGE_FLIP, "Edge flips sum to " + flips + ", which is not a multiple of 2"));
+        }
+        if (CubieCoordinates.parity(cornerPermutation) != CubieCoordinates.parity(edgePermutation)) {
+            errors.add(new ValidationError(ValidationError.Kind.PERMUTATION_PARITY, "Corner and edge permutations have different parities"));
+        }
+    }
+}
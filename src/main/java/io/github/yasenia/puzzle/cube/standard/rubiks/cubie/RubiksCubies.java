@@ -0,0 +1,309 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.cubie;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.accessor.SpatialAccessor;
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksFace;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksFacelet;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.impl.PackedRubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.impl.RubiksMoveTables;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.CORNER_COUNT;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.EDGE_COUNT;
+
+/**
+ * An immutable cubie-level state of a Rubik's Cube: which {@link Corner} and {@link Edge} occupies each position, and how
+ * it is oriented there.
+ *
+ * <p>
+ * Unlike the facelet model, the cubie model exposes the four coordinates every table-driven solver is built on: corner
+ * permutation, corner orientation, edge permutation and edge orientation, ranked by {@link CubieCoordinates}. Conversions
+ * from and to {@link RubiksCube} are lossless, and rotations are applied as cubie permutations derived from the facelet
+ * model, so both models agree by construction.
+ */
+public final class RubiksCubies {
+
+    public static final RubiksCubies SOLVED = new RubiksCubies(identity(CORNER_COUNT), new byte[CORNER_COUNT], identity(EDGE_COUNT), new byte[EDGE_COUNT]);
+
+    private static final Corner[] CORNERS = Corner.values();
+    private static final Edge[] EDGES = Edge.values();
+    private static final RubiksCubies[] ROTATIONS = Stream.of(RubiksRotation.values())
+        .map(rotation -> of(RubiksCube.SOLVED_CUBE.rotate(rotation)))
+        .toArray(RubiksCubies[]::new);
+
+    private final byte[] cornerPermutation;
+    private final byte[] cornerOrientation;
+    private final byte[] edgePermutation;
+    private final byte[] edgeOrientation;
+
+    private RubiksCubies(byte[] cornerPermutation, byte[] cornerOrientation, byte[] edgePermutation, byte[] edgeOrientation) {
+        this.cornerPermutation = cornerPermutation;
+        this.cornerOrientation = cornerOrientation;
+        this.edgePermutation = edgePermutation;
+        this.edgeOrientation = edgeOrientation;
+    }
+
+    /**
+     * Reads the cubies of a cube from its facelets.
+     *
+     * @param cube the cube to read
+     * @return the cubie-level state of the cube
+     * @throws IllegalArgumentException if the facelets of a position do not match any cubie
+     * @see RubiksCubeValidator
+     */
+    public static RubiksCubies of(RubiksCube cube) {
+        return of(colorsOf(cube));
+    }
+
+    /**
+     * Builds the cubie-level state with the given coordinates.
+     *
+     * @param cornerPermutation the corner permutation coordinate, below {@link CubieCoordinates#CORNER_PERMUTATIONS}
+     * @param cornerOrientation the corner orientation coordinate, below {@link CubieCoordinates#CORNER_ORIENTATIONS}
+     * @param edgePermutation   the edge permutation coordinate, below {@link CubieCoordinates#EDGE_PERMUTATIONS}
+     * @param edgeOrientation   the edge orientation coordinate, below {@link CubieCoordinates#EDGE_ORIENTATIONS}
+     * @return the state, which is solvable only if both permutations have the same parity
+     */
+    public static RubiksCubies of(int cornerPermutation, int cornerOrientation, int edgePermutation, int edgeOrientation) {
+        var cubies = new RubiksCubies(new byte[CORNER_COUNT], new byte[CORNER_COUNT], new byte[EDGE_COUNT], new byte[EDGE_COUNT]);
+        CubieCoordinates.unrankPermutation(cornerPermutation, cubies.cornerPermutation);
+        CubieCoordinates.unrankOrientation(cornerOrientation, 3, cubies.cornerOrientation);
+        CubieCoordinates.unrankPermutation(edgePermutation, cubies.edgePermutation);
+        CubieCoordinates.unrankOrientation(edgeOrientation, 2, cubies.edgeOrientation);
+        return cubies;
+    }
+
+    /**
+     * Returns the cubie-level state of a single rotation, that is the state of the solved cube after the rotation.
+     *
+     * @param rotation the rotation
+     * @return the state of the rotation
+     */
+    public static RubiksCubies of(RubiksRotation rotation) {
+        return ROTATIONS[rotation.ordinal()];
+    }
+
+    static RubiksCubies of(SpatialOrientation[] colors) {
+        var cubies = new RubiksCubies(new byte[CORNER_COUNT], new byte[CORNER_COUNT], new byte[EDGE_COUNT], new byte[EDGE_COUNT]);
+        for (var position : CORNERS) {
+            var twist = 0;
+            while (twist < 3 && !isVertical(colors[position.faceletIndex(twist)])) twist++;
+            var corner = cornerOf(colors[position.faceletIndex(twist % 3)], colors[position.faceletIndex((twist + 1) % 3)], colors[position.faceletIndex((twist + 2) % 3)]);
+            if (corner == null) throw new IllegalArgumentException("No corner matches the facelets of position " + position);
+            cubies.cornerPermutation[position.ordinal()] = (byte) corner.ordinal();
+            cubies.cornerOrientation[position.ordinal()] = (byte) twist;
+        }
+        for (var position : EDGES) {
+            var first = colors[position.faceletIndex(0)];
+            var second = colors[position.faceletIndex(1)];
+            var edge = edgeOf(first, second);
+            var flip = 0;
+            if (edge == null) {
+                edge = edgeOf(second, first);
+                flip = 1;
+            }
+            if (edge == null) throw new IllegalArgumentException("No edge matches the facelets of position " + position);
+            cubies.edgePermutation[position.ordinal()] = (byte) edge.ordinal();
+            cubies.edgeOrientation[position.ordinal()] = (byte) flip;
+        }
+        return cubies;
+    }
+
+    /**
+     * Converts this state back to the facelet model.
+     *
+     * @return a cube showing the facelets of this state
+     */
+    public RubiksCube toCube() {
+        var colors = new SpatialOrientation[RubiksMoveTables.FACELET_COUNT];
+        for (var face : SpatialOrientation.values()) {
+            colors[RubiksMoveTables.faceletIndex(face, 4)] = face;
+        }
+        for (var position : CORNERS) {
+            var corner = CORNERS[this.cornerPermutation[position.ordinal()]];
+            var twist = this.cornerOrientation[position.ordinal()];
+            for (int face = 0; face < 3; face++) {
+                colors[position.faceletIndex((face + twist) % 3)] = corner.face(face);
+            }
+        }
+        for (var position : EDGES) {
+            var edge = EDGES[this.edgePermutation[position.ordinal()]];
+            var flip = this.edgeOrientation[position.ordinal()];
+            for (int face = 0; face < 2; face++) {
+                colors[position.faceletIndex((face + flip) % 2)] = edge.face(face);
+            }
+        }
+        return PackedRubiksCube.of(SpatialAccessor.SPATIAL_ORIENTATIONS.map(face -> {
+            var facelets = new RubiksFacelet[9];
+            for (int position = 0; position < facelets.length; position++) {
+                facelets[position] = RubiksFacelet.RUBIKS_FACELETS.at(colors[RubiksMoveTables.faceletIndex(face, position)]);
+            }
+            return new RubiksFace(facelets[0], facelets[1], facelets[2], facelets[3], facelets[4], facelets[5], facelets[6], facelets[7], facelets[8]);
+        }).materialize());
+    }
+
+    /**
+     * Applies a rotation.
+     *
+     * @param rotation the rotation to apply
+     * @return the state after the rotation
+     */
+    public RubiksCubies rotate(RubiksRotation rotation) {
+        return multiply(ROTATIONS[rotation.ordinal()]);
+    }
+
+    /**
+     * Applies another state as a permutation of the cubies, which composes the moves leading to both states.
+     *
+     * @param next the state whose moves are applied after the moves leading to this state
+     * @return the product of both states
+     */
+    public RubiksCubies multiply(RubiksCubies next) {
+        var product = new RubiksCubies(new byte[CORNER_COUNT], new byte[CORNER_COUNT], new byte[EDGE_COUNT], new byte[EDGE_COUNT]);
+        for (int position = 0; position < CORNER_COUNT; position++) {
+            var source = next.cornerPermutation[position];
+            product.cornerPermutation[position] = this.cornerPermutation[source];
+            product.cornerOrientation[position] = (byte) ((this.cornerOrientation[source] + next.cornerOrientation[position]) % 3);
+        }
+        for (int position = 0; position < EDGE_COUNT; position++) {
+            var source = next.edgePermutation[position];
+            product.edgePermutation[position] = this.edgePermutation[source];
+            product.edgeOrientation[position] = (byte) ((this.edgeOrientation[source] + next.edgeOrientation[position]) % 2);
+        }
+        return product;
+    }
+
+    /**
+     * Returns the corner occupying a position.
+     *
+     * @param position the position
+     * @return the corner at the position
+     */
+    public Corner cornerAt(Corner position) {
+        return CORNERS[this.cornerPermutation[position.ordinal()]];
+    }
+
+    /**
+     * Returns the twist of the corner occupying a position.
+     *
+     * @param position the position
+     * @return the index of the face of the position holding the reference facelet of its corner, from 0 to 2
+     */
+    public int twistAt(Corner position) {
+        return this.cornerOrientation[position.ordinal()];
+    }
+
+    /**
+     * Returns the edge occupying a position.
+     *
+     * @param position the position
+     * @return the edge at the position
+     */
+    public Edge edgeAt(Edge position) {
+        return EDGES[this.edgePermutation[position.ordinal()]];
+    }
+
+    /**
+     * Returns the flip of the edge occupying a position.
+     *
+     * @param position the position
+     * @return 0 if the reference facelet of its edge lies on the reference face of the position, 1 otherwise
+     */
+    public int flipAt(Edge position) {
+        return this.edgeOrientation[position.ordinal()];
+    }
+
+    public int cornerPermutation() {
+        return CubieCoordinates.rankPermutation(this.cornerPermutation);
+    }
+
+    public int cornerOrientation() {
+        return CubieCoordinates.rankOrientation(this.cornerOrientation, 3);
+    }
+
+    public int edgePermutation() {
+        return CubieCoordinates.rankPermutation(this.edgePermutation);
+    }
+
+    public int edgeOrientation() {
+        return CubieCoordinates.rankOrientation(this.edgeOrientation, 2);
+    }
+
+    /**
+     * Checks if this state can be reached from the solved cube: the permutations of corners and edges must have the same
+     * parity, the twists must sum to a multiple of 3, and the flips to a multiple of 2.
+     *
+     * @return true if this state is solvable, false otherwise
+     */
+    public boolean isSolvable() {
+        var twists = 0;
+        for (var twist : this.cornerOrientation) twists += twist;
+        var flips = 0;
+        for (var flip : this.edgeOrientation) flips += flip;
+        return CubieCoordinates.parity(this.cornerPermutation) == CubieCoordinates.parity(this.edgePermutation) && twists % 3 == 0 && flips % 2 == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return (o instanceof RubiksCubies that)
+            && Arrays.equals(this.cornerPermutation, that.cornerPermutation) && Arrays.equals(this.cornerOrientation, that.cornerOrientation)
+            && Arrays.equals(this.edgePermutation, that.edgePermutation) && Arrays.equals(this.edgeOrientation, that.edgeOrientation);
+    }
+
+    @Override
+    public int hashCode() {
+        var result = Arrays.hashCode(this.cornerPermutation);
+        result = 31 * result + Arrays.hashCode(this.cornerOrientation);
+        result = 31 * result + Arrays.hashCode(this.edgePermutation);
+        return 31 * result + Arrays.hashCode(this.edgeOrientation);
+    }
+
+    @Override
+    public String toString() {
+        return "RubiksCubies[cornerPermutation=" + Arrays.toString(this.cornerPermutation) + ", cornerOrientation=" + Arrays.toString(this.cornerOrientation)
+            + ", edgePermutation=" + Arrays.toString(this.edgePermutation) + ", edgeOrientation=" + Arrays.toString(this.edgeOrientation) + "]";
+    }
+
+    static SpatialOrientation[] colorsOf(RubiksCube cube) {
+        var colors = new SpatialOrientation[RubiksMoveTables.FACELET_COUNT];
+        var faces = cube.faces();
+        for (var face : SpatialOrientation.values()) {
+            var rubiksFace = faces.at(face);
+            for (int position = 0; position < RubiksMoveTables.FACELETS_PER_FACE; position++) {
+                colors[RubiksMoveTables.faceletIndex(face, position)] = rubiksFace.facelet(position).originalOrientation();
+            }
+        }
+        return colors;
+    }
+
+    static boolean isVertical(SpatialOrientation color) {
+        return color == SpatialOrientation.UP || color == SpatialOrientation.DOWN;
+    }
+
+    static Corner cornerOf(SpatialOrientation first, SpatialOrientation second, SpatialOrientation third) {
+        for (var corner : CORNERS) {
+            if (corner.face(0) == first && corner.face(1) == second && corner.face(2) == third) return corner;
+        }
+        return null;
+    }
+
+    static Edge edgeOf(SpatialOrientation first, SpatialOrientation second) {
+        for (var edge : EDGES) {
+            if (edge.face(0) == first && edge.face(1) == second) return edge;
+        }
+        return null;
+    }
+
+    private static byte[] identity(int length) {
+        var identity = new byte[length];
+        for (int index = 0; index < length; index++) {
+            identity[index] = (byte) index;
+        }
+        return identity;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.cubie;
+
+/**
+ * A reason why a facelet state is not a solvable Rubik's Cube, as reported by {@link RubiksCubeValidator}.
+ *
+ * @param kind    the kind of the error
+ * @param message a human-readable description of the error, naming the offending facelets, cubies or counts
+ */
+public record ValidationError(Kind kind, String message) {
+
+    /**
+     * The kinds of validation errors, from the most to the least fundamental.
+     */
+    public enum Kind {
+
+        /**
+         * The input does not describe 54 facelets with six distinct centers.
+         */
+        MALFORMED_INPUT,
+
+        /**
+         * A facelet shows a color that no center shows.
+         */
+        UNKNOWN_COLOR,
+
+        /**
+         * A color is not shown by exactly nine facelets.
+         */
+        COLOR_COUNT,
+
+        /**
+         * The facelets of a corner position do not match any corner cubie.
+         */
+        INVALID_CORNER,
+
+        /**
+         * The facelets of an edge position do not match any edge cubie.
+         */
+        INVALID_EDGE,
+
+        /**
+         * A corner cubie occupies more than one position.
+         */
+        DUPLICATE_CORNER,
+
+        /**
+         * An edge cubie occupies more than one position.
+         */
+        DUPLICATE_EDGE,
+
+        /**
+         * The corner twists do not sum to a multiple of 3.
+         */
+        CORNER_TWIST,
+
+        /**
+         * The edge flips do not sum to a multiple of 2.
+         */
+        EDGE_FLIP,
+
+        /**
+         * The corner and edge permutations do not have the same parity.
+         */
+        PERMUTATION_PARITY
+    }
+}
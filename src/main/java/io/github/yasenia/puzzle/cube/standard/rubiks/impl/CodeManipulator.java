@@ -5,6 +5,9 @@ import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrien
 import io.github.yasenia.puzzle.cube.standard.geometric.rotation.RotateDirection;
 import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksFace;
 import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksFacelet;
+import io.github.yasenia.support.functional.MemoizedIntFunction;
+
+import static io.github.yasenia.support.functional.Memoization.memoizeInt;
 
 final class CodeManipulator {
 
@@ -29,11 +32,23 @@ final class CodeManipulator {
     private static final int SIDE_OFFSET_SECOND = 3;
     private static final int SIDE_OFFSET_THIRD = 6;
 
+    private static final int PURE_FACE_PATTERN = 0B001_001_001_001_001_001_001_001_001;
+
+    /**
+     * The flyweight faces decoded so far, interned by face code in a bounded cache so that reading faces allocates nothing.
+     */
+    private static final MemoizedIntFunction<RubiksFace> FACES = memoizeInt(faceCode -> decodeFace(faceCode));
+
     private CodeManipulator() {
     }
 
     public static RubiksFace faceOf(int faceCode) {
-        return new RubiksFace(
+        return FACES.apply(faceCode);
+    }
+
+    private static RubiksFace decodeFace(int faceCode) {
+        return new CodedRubiksFace(
+            faceCode,
             faceletOf(faceletCodeAt(faceCode, FACE_OFFSET_LEFT_TOP)),
             faceletOf(faceletCodeAt(faceCode, FACE_OFFSET_TOP)),
             faceletOf(faceletCodeAt(faceCode, FACE_OFFSET_RIGHT_TOP)),
@@ -105,6 +120,17 @@ final class CodeManipulator {
         };
     }
 
+    public static boolean isPureFaceCode(int faceCode) {
+        return faceCode == faceletCodeAt(faceCode, FACE_OFFSET_CENTER) * PURE_FACE_PATTERN;
+    }
+
+    public static boolean isSolved(int[] faceCodes) {
+        for (var faceCode : faceCodes) {
+            if (!isPureFaceCode(faceCode)) return false;
+        }
+        return true;
+    }
+
     private static int faceletCodeAt(int combinedCode, int offset) {
         return (combinedCode >> offset) & 0B111;
     }
@@ -120,6 +146,15 @@ final class CodeManipulator {
         };
     }
 
+    public static int faceCodeOf(RubiksFace face) {
+        if (face instanceof CodedRubiksFace codedFace) return codedFace.faceCode();
+        return faceCodeOf(
+            faceletCodeOf(face.leftTop), faceletCodeOf(face.top), faceletCodeOf(face.rightTop),
+            faceletCodeOf(face.left), faceletCodeOf(face.center), faceletCodeOf(face.right),
+            faceletCodeOf(face.leftBottom), faceletCodeOf(face.bottom), faceletCodeOf(face.rightBottom)
+        );
+    }
+
     private static int faceCodeOf(
         int leftTopCode, int topCode, int rightTopCode,
         int leftCode, int centerCode, int rightCode,
@@ -0,0 +1,37 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.impl;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksFace;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksFacelet;
+
+/**
+ * A {@link RubiksFace} decoded from a face code, which keeps the code to answer queries without comparing facelets.
+ *
+ * <p>Instances are flyweights interned by {@link CodeManipulator#faceOf(int)}, so equal codes usually share one instance.
+ */
+final class CodedRubiksFace extends RubiksFace {
+
+    private final int faceCode;
+
+    CodedRubiksFace(int faceCode,
+                    RubiksFacelet leftTop, RubiksFacelet top, RubiksFacelet rightTop,
+                    RubiksFacelet left, RubiksFacelet center, RubiksFacelet right,
+                    RubiksFacelet leftBottom, RubiksFacelet bottom, RubiksFacelet rightBottom) {
+        super(leftTop, top, rightTop, left, center, right, leftBottom, bottom, rightBottom);
+        this.faceCode = faceCode;
+    }
+
+    int faceCode() {
+        return this.faceCode;
+    }
+
+    @Override
+    public boolean isSolved() {
+        return CodeManipulator.isPureFaceCode(this.faceCode);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof CodedRubiksFace that) return this.faceCode == that.faceCode;
+        return super.equals(o);
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.impl;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+
+import java.util.Arrays;
+
+/**
+ * A mutable Rubik's Cube that applies rotations in place on primitive face codes, intended for search loops.
+ *
+ * <p>
+ * Every applied rotation is recorded, so {@link #undo()} reverts the most recent one in constant time by applying
+ * {@link RubiksRotation#inverse()}. Once the history has grown to the search depth, applying and undoing rotations
+ * allocates nothing. {@link #snapshot()} and {@link #restore(RubiksCube)} convert from and to the immutable {@link RubiksCube}.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class MutableRubiksCube {
+
+    private static final int DEFAULT_HISTORY_CAPACITY = 32;
+    private static final RubiksRotation[] ROTATIONS = RubiksRotation.values();
+
+    private int[] codes = new int[PackedMove.FACE_COUNT];
+    private int[] scratchCodes = new int[PackedMove.FACE_COUNT];
+    private long hash;
+    private byte[] history = new byte[DEFAULT_HISTORY_CAPACITY];
+    private int depth;
+
+    private MutableRubiksCube(RubiksCube cube) {
+        restore(cube);
+    }
+
+    /**
+     * Creates a mutable cube in the same state as the given cube.
+     *
+     * @param cube the initial state
+     * @return a new mutable cube with an empty history
+     */
+    public static MutableRubiksCube of(RubiksCube cube) {
+        return new MutableRubiksCube(cube);
+    }
+
+    /**
+     * Applies a rotation in place and records it in the history.
+     *
+     * @param rotation the rotation to apply
+     * @return this cube
+     */
+    public MutableRubiksCube apply(RubiksRotation rotation) {
+        rotateInPlace(rotation);
+        if (this.depth == this.history.length) this.history = Arrays.copyOf(this.history, this.depth * 2);
+        this.history[this.depth++] = (byte) rotation.ordinal();
+        return this;
+    }
+
+    /**
+     * Reverts the most recently applied rotation.
+     *
+     * @return the reverted rotation
+     * @throws IllegalStateException if no rotation has been applied since the last restore
+     */
+    public RubiksRotation undo() {
+        if (this.depth == 0) throw new IllegalStateException("No rotation to undo");
+        var rotation = ROTATIONS[this.history[--this.depth]];
+        rotateInPlace(rotation.inverse());
+        return rotation;
+    }
+
+    /**
+     * Returns the number of applied rotations that can be undone.
+     *
+     * @return the depth of the history
+     */
+    public int depth() {
+        return this.depth;
+    }
+
+    /**
+     * Checks if the cube is solved, without materializing any face.
+     *
+     * @return true if every face shows a single color, false otherwise
+     */
+    public boolean isSolved() {
+        return CodeManipulator.isSolved(this.codes);
+    }
+
+    /**
+     * Returns the 64-bit Zobrist hash of the current state, which is maintained incrementally by every rotation and undo.
+     *
+     * @return the Zobrist hash of the current state, equal to {@link PackedRubiksCube#zobristHash()} of its snapshot
+     */
+    public long zobristHash() {
+        return this.hash;
+    }
+
+    /**
+     * Captures the current state as an immutable cube.
+     *
+     * @return an immutable cube in the current state, unaffected by later mutations
+     */
+    public RubiksCube snapshot() {
+        return new PackedRubiksCube(this.codes.clone(), this.hash);
+    }
+
+    /**
+     * Overwrites the current state with the state of the given cube and clears the history.
+     *
+     * @param cube the state to restore
+     * @return this cube
+     */
+    public MutableRubiksCube restore(RubiksCube cube) {
+        var packed = PackedRubiksCube.of(cube);
+        System.arraycopy(packed.codes(), 0, this.codes, 0, PackedMove.FACE_COUNT);
+        this.hash = packed.zobristHash();
+        this.depth = 0;
+        return this;
+    }
+
+    void rotateInPlace(RubiksRotation rotation) {
+        this.hash = ZobristHashing.rehash(this.hash, this.codes, rotation);
+        PackedMove.of(rotation).apply(this.codes, this.scratchCodes);
+        var rotatedCodes = this.scratchCodes;
+        this.scratchCodes = this.codes;
+        this.codes = rotatedCodes;
+    }
+}
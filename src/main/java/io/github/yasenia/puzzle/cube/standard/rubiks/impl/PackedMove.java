@@ -0,0 +1,127 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.impl;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * A precompiled bit-level kernel that applies a single {@link RubiksRotation}, or any other facelet permutation, to six packed 27-bit face codes.
+ *
+ * <p>
+ * A kernel is a fixed list of terms. Each term takes the facelets selected by a mask from a source face code and
+ * shifts them into a target face code, so applying a rotation costs a fixed number of bit operations and allocates nothing.
+ *
+ * <p>
+ * The terms are compiled once, at class initialization, from the facelet permutations of {@link RubiksMoveTables}.
+ * This keeps the packed representation consistent with the geometric model by construction.
+ */
+final class PackedMove {
+
+    static final int FACE_COUNT = 6;
+    static final int FACELET_BITS = 3;
+
+    private static final int FACELETS_PER_FACE = RubiksMoveTables.FACELETS_PER_FACE;
+    private static final int FACELET_COUNT = RubiksMoveTables.FACELET_COUNT;
+
+    private static final int FACELET_MASK = 0B111;
+    private static final int SHIFT_STEPS = 2 * FACELETS_PER_FACE - 1;
+
+    private static final PackedMove[] MOVES = Stream.of(RubiksRotation.values()).map(RubiksMoveTables::permutation).map(PackedMove::compile).toArray(PackedMove[]::new);
+
+    private final int[] targets;
+    private final int[] sources;
+    private final int[] masks;
+    private final int[] leftShifts;
+    private final int[] rightShifts;
+
+    private PackedMove(int[] targets, int[] sources, int[] masks, int[] leftShifts, int[] rightShifts) {
+        this.targets = targets;
+        this.sources = sources;
+        this.masks = masks;
+        this.leftShifts = leftShifts;
+        this.rightShifts = rightShifts;
+    }
+
+    static PackedMove of(RubiksRotation rotation) {
+        return MOVES[rotation.ordinal()];
+    }
+
+    /**
+     * Applies the rotation to the given face codes and writes the result into another array.
+     *
+     * @param fromCodes the face codes before the rotation, indexed by {@link SpatialOrientation#ordinal()}
+     * @param toCodes   the array receiving the face codes after the rotation, which must not be {@code fromCodes}
+     */
+    void apply(int[] fromCodes, int[] toCodes) {
+        Arrays.fill(toCodes, 0);
+        for (int i = 0; i < this.targets.length; i++) {
+            toCodes[this.targets[i]] |= ((fromCodes[this.sources[i]] & this.masks[i]) << this.leftShifts[i]) >>> this.rightShifts[i];
+        }
+    }
+
+    /**
+     * Applies the rotation to a range of cubes stored column by column, one array of face codes per face.
+     *
+     * <p>
+     * Each term runs as a loop over contiguous face codes with loop-invariant masks and shifts, which the JIT compiler turns
+     * into SIMD instructions, so a batch costs a fraction of rotating its cubes one at a time.
+     *
+     * @param fromCodes the face codes before the rotation, indexed by {@link SpatialOrientation#ordinal()} and then by cube
+     * @param toCodes   the arrays receiving the face codes after the rotation, which must not be {@code fromCodes}
+     * @param start     the index of the first cube of the range, inclusive
+     * @param end       the index of the last cube of the range, exclusive
+     */
+    void apply(int[][] fromCodes, int[][] toCodes, int start, int end) {
+        for (var codes : toCodes) {
+            Arrays.fill(codes, start, end, 0);
+        }
+        for (int i = 0; i < this.targets.length; i++) {
+            var from = fromCodes[this.sources[i]];
+            var to = toCodes[this.targets[i]];
+            var mask = this.masks[i];
+            var leftShift = this.leftShifts[i];
+            var rightShift = this.rightShifts[i];
+            for (int cube = start; cube < end; cube++) {
+                to[cube] |= ((from[cube] & mask) << leftShift) >>> rightShift;
+            }
+        }
+    }
+
+    /**
+     * Compiles a facelet permutation into a kernel.
+     *
+     * @param permutation the facelet permutation, mapping each target facelet index to its source facelet index
+     * @return a kernel applying the permutation to packed face codes
+     */
+    static PackedMove compile(int[] permutation) {
+        // Group the facelet moves by (target face, source face, shift), so that facelets travelling together share one term.
+        var groupedMasks = new int[FACE_COUNT * FACE_COUNT * SHIFT_STEPS];
+        for (int target = 0; target < FACELET_COUNT; target++) {
+            var source = permutation[target];
+            var shiftStep = target % FACELETS_PER_FACE - source % FACELETS_PER_FACE + FACELETS_PER_FACE - 1;
+            var group = ((target / FACELETS_PER_FACE) * FACE_COUNT + source / FACELETS_PER_FACE) * SHIFT_STEPS + shiftStep;
+            groupedMasks[group] |= FACELET_MASK << (source % FACELETS_PER_FACE * FACELET_BITS);
+        }
+
+        var termCount = (int) Arrays.stream(groupedMasks).filter(mask -> mask != 0).count();
+        var targets = new int[termCount];
+        var sources = new int[termCount];
+        var masks = new int[termCount];
+        var leftShifts = new int[termCount];
+        var rightShifts = new int[termCount];
+        var term = 0;
+        for (int group = 0; group < groupedMasks.length; group++) {
+            if (groupedMasks[group] == 0) continue;
+            targets[term] = group / SHIFT_STEPS / FACE_COUNT;
+            sources[term] = group / SHIFT_STEPS % FACE_COUNT;
+            masks[term] = groupedMasks[group];
+            var shift = (group % SHIFT_STEPS - (FACELETS_PER_FACE - 1)) * FACELET_BITS;
+            leftShifts[term] = Math.max(shift, 0);
+            rightShifts[term] = Math.max(-shift, 0);
+            term++;
+        }
+        return new PackedMove(targets, sources, masks, leftShifts, rightShifts);
+    }
+}
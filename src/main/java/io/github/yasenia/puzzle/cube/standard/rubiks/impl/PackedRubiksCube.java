@@ -0,0 +1,148 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.impl;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.accessor.SpatialAccessor;
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksFace;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksFacelet;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link RubiksCube} implementation that keeps its whole state in six primitive 27-bit face codes.
+ *
+ * <p>
+ * Rotations are applied by a precompiled {@link PackedMove} kernel, so each rotation costs a fixed number of bit operations
+ * and allocates nothing but the resulting cube. It behaves exactly like {@link RubiksCubeImpl}, which remains the reference
+ * implementation built on the geometric model, and is meant for hot paths that rotate cubes millions of times.
+ */
+public final class PackedRubiksCube implements RubiksCube {
+
+    private static final RubiksRotation[] ROTATIONS = RubiksRotation.values();
+    private static final int[] SOLVED_CODES = codesOf(RubiksFacelet.RUBIKS_FACELETS.map(CodeManipulator::pureFaceCodeOf));
+
+    private final int[] codes;
+    private final long hash;
+
+    public PackedRubiksCube() {
+        this(SOLVED_CODES.clone());
+    }
+
+    PackedRubiksCube(int[] codes) {
+        this(codes, ZobristHashing.hashOf(codes));
+    }
+
+    PackedRubiksCube(int[] codes, long hash) {
+        this.codes = codes;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns a packed copy of the given cube, or the cube itself if it is already packed.
+     *
+     * @param cube the cube to convert
+     * @return a packed cube in the same state as the given cube
+     */
+    public static PackedRubiksCube of(RubiksCube cube) {
+        if (cube instanceof PackedRubiksCube packed) return packed;
+        if (cube instanceof RubiksCubeImpl impl) return new PackedRubiksCube(impl.codes(), impl.zobristHash());
+        return of(cube.faces());
+    }
+
+    /**
+     * Returns a packed cube showing the given faces, for instance to load a state described facelet by facelet.
+     *
+     * <p>
+     * The faces are taken as they are: nothing checks that they describe a state reachable from the solved cube.
+     *
+     * @param faces the faces of the cube
+     * @return a packed cube showing the given faces
+     */
+    public static PackedRubiksCube of(SpatialAccessor<RubiksFace> faces) {
+        return new PackedRubiksCube(codesOf(faces.map(CodeManipulator::faceCodeOf)));
+    }
+
+    @Override
+    public RubiksCube rotate(RubiksRotation rotation) {
+        var rotatedCodes = new int[PackedMove.FACE_COUNT];
+        PackedMove.of(rotation).apply(this.codes, rotatedCodes);
+        return new PackedRubiksCube(rotatedCodes, ZobristHashing.rehash(this.hash, this.codes, rotation));
+    }
+
+    @Override
+    public RubiksCube rotate(List<RubiksRotation> rotations) {
+        var cube = MutableRubiksCube.of(this);
+        for (var rotation : rotations) {
+            cube.rotateInPlace(rotation);
+        }
+        return cube.snapshot();
+    }
+
+    @Override
+    public RubiksCube rotate(RubiksRotation[] rotations) {
+        var cube = MutableRubiksCube.of(this);
+        for (var rotation : rotations) {
+            cube.rotateInPlace(rotation);
+        }
+        return cube.snapshot();
+    }
+
+    @Override
+    public RubiksCube rotate(IntStream rotations) {
+        var cube = MutableRubiksCube.of(this);
+        rotations.forEachOrdered(ordinal -> cube.rotateInPlace(ROTATIONS[ordinal]));
+        return cube.snapshot();
+    }
+
+    @Override
+    public SpatialAccessor<RubiksFace> faces() {
+        return SpatialAccessor.SPATIAL_ORIENTATIONS.map(orientation -> CodeManipulator.faceOf(this.codes[orientation.ordinal()]));
+    }
+
+    /**
+     * Checks if the cube is solved by comparing each face code with the pure code of its center, without materializing any face.
+     *
+     * @return true if every face shows a single color, false otherwise
+     */
+    @Override
+    public boolean isSolved() {
+        return CodeManipulator.isSolved(this.codes);
+    }
+
+    /**
+     * Returns the 64-bit Zobrist hash of the state, which is maintained incrementally by every rotation.
+     * Equal states always have equal hashes, which makes the hash suitable as a transposition table key.
+     *
+     * @return the Zobrist hash of the state
+     */
+    public long zobristHash() {
+        return this.hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o instanceof PackedRubiksCube that) return this.hash == that.hash && Arrays.equals(this.codes, that.codes);
+        return (o instanceof RubiksCubeImpl that) && this.hash == that.zobristHash() && Arrays.equals(this.codes, that.codes());
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.hash);
+    }
+
+    int[] codes() {
+        return this.codes;
+    }
+
+    private static int[] codesOf(SpatialAccessor<Integer> faceCodes) {
+        var codes = new int[PackedMove.FACE_COUNT];
+        for (var orientation : SpatialOrientation.values()) {
+            codes[orientation.ordinal()] = faceCodes.at(orientation);
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.impl;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * A mutable batch of Rubik's Cube states which are all rotated together, for bulk workloads such as verifying many solutions.
+ *
+ * <p>
+ * The states are stored as a structure of arrays: one array per face, holding the 27-bit face code of that face for every
+ * cube of the batch. A rotation applies the terms of its {@link PackedMove} kernel to whole columns, in loops which the JIT
+ * compiler vectorizes, and a sequence of rotations is first compiled into a single {@link RubiksPermutation}, so the batch is
+ * traversed once whatever the length of the sequence.
+ *
+ * <p>
+ * In {@linkplain #parallel() parallel mode}, the batch is split into chunks of contiguous cubes which are rotated by the
+ * common fork-join pool. A batch is not thread-safe otherwise.
+ */
+public final class RubiksCubeBatch {
+
+    private static final int CHUNK_SIZE = 1 << 12;
+
+    private final int size;
+    private int[][] codes;
+    private int[][] scratch;
+    private boolean parallel;
+
+    /**
+     * Creates a batch of solved cubes.
+     *
+     * @param size the number of cubes of the batch
+     */
+    public RubiksCubeBatch(int size) {
+        if (size < 0) throw new IllegalArgumentException("Batch size must not be negative: " + size);
+        this.size = size;
+        this.codes = new int[PackedMove.FACE_COUNT][size];
+        this.scratch = new int[PackedMove.FACE_COUNT][size];
+        var solvedCodes = new PackedRubiksCube().codes();
+        for (int face = 0; face < PackedMove.FACE_COUNT; face++) {
+            Arrays.fill(this.codes[face], solvedCodes[face]);
+        }
+    }
+
+    /**
+     * Creates a batch holding the states of the given cubes, in order.
+     *
+     * @param cubes the cubes to copy
+     * @return a new batch in sequential mode
+     */
+    public static RubiksCubeBatch of(List<? extends RubiksCube> cubes) {
+        var batch = new RubiksCubeBatch(cubes.size());
+        for (int index = 0; index < cubes.size(); index++) {
+            batch.set(index, cubes.get(index));
+        }
+        return batch;
+    }
+
+    /**
+     * Switches this batch to parallel mode, in which rotations split the batch across the cores.
+     *
+     * @return this batch
+     */
+    public RubiksCubeBatch parallel() {
+        this.parallel = true;
+        return this;
+    }
+
+    /**
+     * Switches this batch to sequential mode, in which rotations run on the calling thread, which is the default.
+     *
+     * @return this batch
+     */
+    public RubiksCubeBatch sequential() {
+        this.parallel = false;
+        return this;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns a snapshot of the state of a cube of the batch.
+     *
+     * @param index the index of the cube
+     * @return a packed cube in the same state
+     */
+    public RubiksCube get(int index) {
+        var cubeCodes = new int[PackedMove.FACE_COUNT];
+        for (int face = 0; face < PackedMove.FACE_COUNT; face++) {
+            cubeCodes[face] = this.codes[face][index];
+        }
+        return new PackedRubiksCube(cubeCodes);
+    }
+
+    /**
+     * Replaces the state of a cube of the batch.
+     *
+     * @param index the index of the cube
+     * @param cube  the cube whose state is copied
+     */
+    public void set(int index, RubiksCube cube) {
+        var cubeCodes = PackedRubiksCube.of(cube).codes();
+        for (int face = 0; face < PackedMove.FACE_COUNT; face++) {
+            this.codes[face][index] = cubeCodes[face];
+        }
+    }
+
+    /**
+     * Applies a rotation to every cube of the batch.
+     *
+     * @param rotation the rotation to apply
+     * @return this batch
+     */
+    public RubiksCubeBatch rotate(RubiksRotation rotation) {
+        return apply(PackedMove.of(rotation));
+    }
+
+    /**
+     * Applies a sequence of rotations to every cube of the batch, compiled into a single permutation.
+     *
+     * @param rotations the rotations, in the order they are applied
+     * @return this batch
+     */
+    public RubiksCubeBatch rotate(List<RubiksRotation> rotations) {
+        return permute(RubiksPermutation.compile(rotations));
+    }
+
+    /**
+     * Applies a permutation to every cube of the batch.
+     *
+     * @param permutation the permutation to apply
+     * @return this batch
+     */
+    public RubiksCubeBatch permute(RubiksPermutation permutation) {
+        return apply(permutation.kernel());
+    }
+
+    /**
+     * Checks if a cube of the batch is solved.
+     *
+     * @param index the index of the cube
+     * @return true if every face of the cube shows a single color, false otherwise
+     */
+    public boolean isSolved(int index) {
+        for (var faceCodes : this.codes) {
+            if (!CodeManipulator.isPureFaceCode(faceCodes[index])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Counts the solved cubes of the batch.
+     *
+     * @return the number of cubes whose faces all show a single color
+     */
+    public int countSolved() {
+        var stream = IntStream.range(0, this.size);
+        return (int) (this.parallel ? stream.parallel() : stream).filter(this::isSolved).count();
+    }
+
+    private RubiksCubeBatch apply(PackedMove move) {
+        var from = this.codes;
+        var to = this.scratch;
+        if (this.parallel && this.size > CHUNK_SIZE) {
+            IntStream.range(0, (this.size + CHUNK_SIZE - 1) / CHUNK_SIZE).parallel().forEach(chunk -> {
+                var start = chunk * CHUNK_SIZE;
+                move.apply(from, to, start, Math.min(start + CHUNK_SIZE, this.size));
+            });
+        } else {
+            move.apply(from, to, 0, this.size);
+        }
+        this.codes = to;
+        this.scratch = from;
+        return this;
+    }
+}
@@ -9,39 +9,59 @@ import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksFacelet;
 import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
 
 import java.util.Map;
+import java.util.function.Supplier;
+
+import static io.github.yasenia.support.functional.Memoization.memoize;
 
 public class RubiksCubeImpl implements RubiksCube {
 
+    private static final SpatialOrientation[] ORIENTATIONS = SpatialOrientation.values();
+
     private final SpatialAccessor<Integer> codes;
-    private final SpatialAccessor<RubiksFace> faces;
+    private final long hash;
+    private final Supplier<SpatialAccessor<RubiksFace>> faces;
 
     public RubiksCubeImpl() {
         this(RubiksFacelet.RUBIKS_FACELETS.map(CodeManipulator::pureFaceCodeOf));
     }
 
-    private RubiksCubeImpl(Map<SpatialOrientation, Integer> faceCodesMap) {
-        this(SpatialAccessor.SPATIAL_ORIENTATIONS.map(faceCodesMap::get));
+    private RubiksCubeImpl(SpatialAccessor<Integer> codes) {
+        this(codes, ZobristHashing.hashOf(codesOf(codes)));
     }
 
-    private RubiksCubeImpl(SpatialAccessor<Integer> codes) {
-        this.codes = codes;
-        this.faces = this.codes.map(CodeManipulator::faceOf);
+    private RubiksCubeImpl(SpatialAccessor<Integer> codes, long hash) {
+        // Face codes are read repeatedly by every rotation, so they are evaluated once up front. Faces are only
+        // decoded on first access, since most intermediate cubes of a rotation sequence are never inspected.
+        this.codes = codes.materialize();
+        this.hash = hash;
+        this.faces = memoize(() -> this.codes.map(CodeManipulator::faceOf).materialize());
     }
 
     @Override
     public RubiksCube rotate(RubiksRotation rotation) {
+        return new RubiksCubeImpl(rotate(this.codes, rotation), ZobristHashing.rehash(this.hash, this.codes(), rotation));
+    }
+
+    /**
+     * Rotates face codes through the geometric model, which is the single source of truth of every rotation.
+     *
+     * @param codes    the face codes before the rotation
+     * @param rotation the rotation to apply
+     * @return the face codes after the rotation
+     */
+    static SpatialAccessor<Integer> rotate(SpatialAccessor<Integer> codes, RubiksRotation rotation) {
         var orientation = rotation.orientation();
         var direction = rotation.direction();
 
         // Rotate the center face of the cube in the specified direction and store the updated face code.
-        var updatedCenterFaceCode = CodeManipulator.rotateFaceCode(this.codes.at(orientation), direction);
+        var updatedCenterFaceCode = CodeManipulator.rotateFaceCode(codes.at(orientation), direction);
 
         // Project the spatial orientation to its adjacent orientations (e.g., if the orientation is FRONT,
         // the adjacent orientations are LEFT, RIGHT, TOP, and BOTTOM).
         var adjacentOrientations = orientation.project();
 
         // Map the adjacent orientations to their corresponding face codes in the current baseState of the cube.
-        var adjacentFaceCodes = adjacentOrientations.map(this.codes::at);
+        var adjacentFaceCodes = adjacentOrientations.map(codes::at);
 
         // For each adjacent orientation, calculate the updated face codes after the rotation.
         var updatedAdjacentFaceCodes = PlanarAccessor.PLANAR_ORIENTATIONS.map(adjacentOrientation -> {
@@ -57,20 +77,72 @@ public class RubiksCubeImpl implements RubiksCube {
             );
         });
 
-        // Construct a new RubiksCubeImpl object with the updated face codes for the center and adjacent faces,
-        // and return it. The opposite face remains unchanged.
-        return new RubiksCubeImpl(Map.of(
+        // Collect the updated face codes for the center and adjacent faces. The opposite face remains unchanged.
+        var updatedCodes = Map.of(
             orientation, updatedCenterFaceCode,
             adjacentOrientations.left(), updatedAdjacentFaceCodes.left(),
             adjacentOrientations.right(), updatedAdjacentFaceCodes.right(),
             adjacentOrientations.top(), updatedAdjacentFaceCodes.top(),
             adjacentOrientations.bottom(), updatedAdjacentFaceCodes.bottom(),
-            orientation.opposite(), this.codes.at(orientation.opposite())
-        ));
+            orientation.opposite(), codes.at(orientation.opposite())
+        );
+        return SpatialAccessor.SPATIAL_ORIENTATIONS.map(updatedCodes::get).materialize();
     }
 
     @Override
     public SpatialAccessor<RubiksFace> faces() {
-        return this.faces;
+        return this.faces.get();
+    }
+
+    @Override
+    public boolean isSolved() {
+        for (var orientation : ORIENTATIONS) {
+            if (!CodeManipulator.isPureFaceCode(this.codes.at(orientation))) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o instanceof RubiksCubeImpl that) {
+            if (this.hash != that.hash) return false;
+            for (var orientation : ORIENTATIONS) {
+                if (this.codeAt(orientation) != that.codeAt(orientation)) return false;
+            }
+            return true;
+        }
+        return (o instanceof PackedRubiksCube that) && that.equals(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.hash);
+    }
+
+    /**
+     * Returns the 64-bit Zobrist hash of the state, which is maintained incrementally by every rotation, as the one of
+     * {@link PackedRubiksCube#zobristHash()}.
+     */
+    long zobristHash() {
+        return this.hash;
+    }
+
+    int codeAt(SpatialOrientation orientation) {
+        return this.codes.at(orientation);
+    }
+
+    int[] codes() {
+        return codesOf(this.codes);
+    }
+
+    private static int[] codesOf(SpatialAccessor<Integer> faceCodes) {
+        // The solved cube of RubiksCube is built while this class is being initialized, before ORIENTATIONS is assigned.
+        var orientations = SpatialOrientation.values();
+        var codes = new int[orientations.length];
+        for (var orientation : orientations) {
+            codes[orientation.ordinal()] = faceCodes.at(orientation);
+        }
+        return codes;
     }
 }
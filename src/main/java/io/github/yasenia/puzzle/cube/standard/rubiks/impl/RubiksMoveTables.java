@@ -0,0 +1,113 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.impl;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.accessor.SpatialAccessor;
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksFace;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+
+import java.util.stream.Stream;
+
+/**
+ * Precomputed facelet permutations for every {@link RubiksRotation}.
+ *
+ * <p>
+ * The 54 facelets of a cube are indexed face by face in {@link SpatialOrientation#ordinal()} order, and row by row within
+ * a face, following the field order of {@link RubiksFace} from {@code leftTop} to {@code rightBottom}. A move table maps
+ * each target facelet index to the source facelet index whose content it receives after the rotation, so any cube
+ * representation indexed this way can apply a rotation as a single gather.
+ *
+ * <p>
+ * The tables are derived once, at class initialization, by tracing every facelet through {@link RubiksCubeImpl#rotate(SpatialAccessor, RubiksRotation)}.
+ * The geometric model is therefore the single source of truth, while the cost of evaluating it leaves the hot path.
+ */
+public final class RubiksMoveTables {
+
+    public static final int FACELETS_PER_FACE = 9;
+    public static final int FACELET_COUNT = SpatialOrientation.values().length * FACELETS_PER_FACE;
+
+    private static final int FACELET_BITS = 3;
+
+    private static final int[][] PERMUTATIONS = Stream.of(RubiksRotation.values()).map(RubiksMoveTables::trace).toArray(int[][]::new);
+
+    private RubiksMoveTables() {
+    }
+
+    /**
+     * Returns the index of a facelet.
+     *
+     * @param face     the face holding the facelet
+     * @param position the row-major position of the facelet on the face, from 0 (left top) to 8 (right bottom)
+     * @return the facelet index, from 0 to 53
+     */
+    public static int faceletIndex(SpatialOrientation face, int position) {
+        return face.ordinal() * FACELETS_PER_FACE + position;
+    }
+
+    /**
+     * Returns the facelet permutation of a rotation.
+     *
+     * @param rotation the rotation
+     * @return a fresh copy of the move table, mapping each target facelet index to its source facelet index
+     */
+    public static int[] permutation(RubiksRotation rotation) {
+        return PERMUTATIONS[rotation.ordinal()].clone();
+    }
+
+    /**
+     * Returns the facelet index whose content moves into the given facelet index when the rotation is applied.
+     *
+     * @param rotation the rotation
+     * @param target   the target facelet index
+     * @return the source facelet index
+     */
+    public static int source(RubiksRotation rotation, int target) {
+        return PERMUTATIONS[rotation.ordinal()][target];
+    }
+
+    /**
+     * Applies a rotation to facelet-indexed state by a single gather.
+     *
+     * @param rotation the rotation to apply
+     * @param from     the state before the rotation
+     * @param to       the array receiving the state after the rotation, which must not be {@code from}
+     */
+    public static void apply(RubiksRotation rotation, int[] from, int[] to) {
+        var permutation = PERMUTATIONS[rotation.ordinal()];
+        for (int target = 0; target < FACELET_COUNT; target++) {
+            to[target] = from[permutation[target]];
+        }
+    }
+
+    /**
+     * Applies a rotation to facelet-indexed state by a single gather.
+     *
+     * @param rotation the rotation to apply
+     * @param from     the state before the rotation
+     * @param to       the array receiving the state after the rotation, which must not be {@code from}
+     * @param <T>      the type of the per-facelet state
+     */
+    public static <T> void apply(RubiksRotation rotation, T[] from, T[] to) {
+        var permutation = PERMUTATIONS[rotation.ordinal()];
+        for (int target = 0; target < FACELET_COUNT; target++) {
+            to[target] = from[permutation[target]];
+        }
+    }
+
+    private static int[] trace(RubiksRotation rotation) {
+        var orientations = SpatialOrientation.values();
+        var permutation = new int[FACELET_COUNT];
+        for (int source = 0; source < FACELET_COUNT; source++) {
+            // Mark the traced facelet with a non-zero code, leaving every other facelet zero.
+            var probeCodes = new int[orientations.length];
+            probeCodes[source / FACELETS_PER_FACE] = 1 << (source % FACELETS_PER_FACE * FACELET_BITS);
+            var rotated = RubiksCubeImpl.rotate(SpatialAccessor.SPATIAL_ORIENTATIONS.map(orientation -> probeCodes[orientation.ordinal()]), rotation);
+            for (var orientation : orientations) {
+                var code = rotated.at(orientation);
+                if (code != 0) {
+                    permutation[faceletIndex(orientation, Integer.numberOfTrailingZeros(code) / FACELET_BITS)] = source;
+                }
+            }
+        }
+        return permutation;
+    }
+}
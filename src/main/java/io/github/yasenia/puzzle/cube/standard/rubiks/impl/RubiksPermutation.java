@@ -0,0 +1,193 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.impl;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static io.github.yasenia.puzzle.cube.standard.rubiks.impl.RubiksMoveTables.FACELET_COUNT;
+
+/**
+ * An immutable facelet permutation of a Rubik's Cube, representing the net effect of a sequence of rotations.
+ *
+ * <p>
+ * A sequence of rotations is compiled once into a single permutation, which then applies to any {@link RubiksCube}
+ * in one step, at the cost of a single rotation regardless of the sequence length. Permutations form a group:
+ * they can be composed, inverted, and raised to any power, and the {@link #order()} of an algorithm is obtained
+ * from its cycle decomposition instead of by repeated rotation.
+ *
+ * <p>
+ * Facelets are indexed as in {@link RubiksMoveTables}, and a permutation maps each target facelet index to the
+ * source facelet index whose content it receives.
+ */
+public final class RubiksPermutation {
+
+    public static final RubiksPermutation IDENTITY = new RubiksPermutation(identityArray());
+
+    private static final RubiksPermutation[] ROTATION_PERMUTATIONS = Arrays.stream(RubiksRotation.values())
+        .map(rotation -> new RubiksPermutation(RubiksMoveTables.permutation(rotation)))
+        .toArray(RubiksPermutation[]::new);
+
+    private final int[] sources;
+    private PackedMove kernel;
+
+    private RubiksPermutation(int[] sources) {
+        this.sources = sources;
+    }
+
+    /**
+     * Returns the permutation of a single rotation.
+     *
+     * @param rotation the rotation
+     * @return the permutation applying the rotation
+     */
+    public static RubiksPermutation of(RubiksRotation rotation) {
+        return ROTATION_PERMUTATIONS[rotation.ordinal()];
+    }
+
+    /**
+     * Compiles a sequence of rotations into a single permutation.
+     *
+     * @param rotations the rotations, in the order they are applied
+     * @return the permutation with the same effect as applying all the rotations in order
+     */
+    public static RubiksPermutation compile(List<RubiksRotation> rotations) {
+        var sources = identityArray();
+        var composed = new int[FACELET_COUNT];
+        for (var rotation : rotations) {
+            for (int target = 0; target < FACELET_COUNT; target++) {
+                composed[target] = sources[RubiksMoveTables.source(rotation, target)];
+            }
+            var swap = sources;
+            sources = composed;
+            composed = swap;
+        }
+        return new RubiksPermutation(sources);
+    }
+
+    /**
+     * Composes this permutation with another one.
+     *
+     * @param next the permutation applied after this one
+     * @return the permutation with the same effect as applying this permutation and then {@code next}
+     */
+    public RubiksPermutation compose(RubiksPermutation next) {
+        var composed = new int[FACELET_COUNT];
+        for (int target = 0; target < FACELET_COUNT; target++) {
+            composed[target] = this.sources[next.sources[target]];
+        }
+        return new RubiksPermutation(composed);
+    }
+
+    /**
+     * Returns the inverse of this permutation, which reverts its effect.
+     *
+     * @return the inverse permutation
+     */
+    public RubiksPermutation inverse() {
+        var inverted = new int[FACELET_COUNT];
+        for (int target = 0; target < FACELET_COUNT; target++) {
+            inverted[this.sources[target]] = target;
+        }
+        return new RubiksPermutation(inverted);
+    }
+
+    /**
+     * Raises this permutation to the given power using its cycle decomposition, in time linear in the number of facelets.
+     *
+     * @param exponent the number of times the permutation is applied, negative values applying the inverse
+     * @return the permutation with the same effect as applying this permutation {@code exponent} times
+     */
+    public RubiksPermutation pow(int exponent) {
+        var powered = new int[FACELET_COUNT];
+        var cycle = new int[FACELET_COUNT];
+        var visited = new boolean[FACELET_COUNT];
+        for (int start = 0; start < FACELET_COUNT; start++) {
+            if (visited[start]) continue;
+            var length = 0;
+            for (int index = start; !visited[index]; index = this.sources[index]) {
+                visited[index] = true;
+                cycle[length++] = index;
+            }
+            var shift = Math.floorMod(exponent, length);
+            for (int i = 0; i < length; i++) {
+                powered[cycle[i]] = cycle[(i + shift) % length];
+            }
+        }
+        return new RubiksPermutation(powered);
+    }
+
+    /**
+     * Returns the order of this permutation, that is the least number of applications restoring any cube to its initial state.
+     *
+     * @return the least common multiple of the cycle lengths of this permutation
+     */
+    public int order() {
+        var visited = new boolean[FACELET_COUNT];
+        var order = 1;
+        for (int start = 0; start < FACELET_COUNT; start++) {
+            if (visited[start]) continue;
+            var length = 0;
+            for (int index = start; !visited[index]; index = this.sources[index]) {
+                visited[index] = true;
+                length++;
+            }
+            order = order / gcd(order, length) * length;
+        }
+        return order;
+    }
+
+    /**
+     * Returns the facelet index whose content moves into the given facelet index when this permutation is applied.
+     *
+     * @param target the target facelet index
+     * @return the source facelet index
+     */
+    public int source(int target) {
+        return this.sources[target];
+    }
+
+    /**
+     * Applies this permutation to a cube in a single step.
+     *
+     * @param cube the cube to permute
+     * @return the cube after applying this permutation
+     */
+    public RubiksCube applyTo(RubiksCube cube) {
+        var permutedCodes = new int[PackedMove.FACE_COUNT];
+        kernel().apply(PackedRubiksCube.of(cube).codes(), permutedCodes);
+        return new PackedRubiksCube(permutedCodes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return (o instanceof RubiksPermutation that) && Arrays.equals(this.sources, that.sources);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.sources);
+    }
+
+    PackedMove kernel() {
+        var compiled = this.kernel;
+        if (compiled == null) {
+            // Racy single-check initialization is safe here, because the kernel is immutable and deterministic.
+            compiled = PackedMove.compile(this.sources);
+            this.kernel = compiled;
+        }
+        return compiled;
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static int[] identityArray() {
+        var identity = new int[FACELET_COUNT];
+        Arrays.setAll(identity, index -> index);
+        return identity;
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.impl;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.github.yasenia.puzzle.cube.standard.rubiks.impl.RubiksMoveTables.FACELETS_PER_FACE;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.impl.RubiksMoveTables.FACELET_COUNT;
+
+/**
+ * Zobrist hashing of packed face codes.
+ *
+ * <p>
+ * Every (facelet, color code) pair is assigned a fixed random 64-bit key, and the hash of a state is the XOR of the keys
+ * of all its facelets. Since a rotation only moves 20 facelets, the hash of the rotated state is derived from the hash of
+ * the original state by XOR-ing out the old keys and XOR-ing in the new keys of the moved facelets only.
+ */
+final class ZobristHashing {
+
+    private static final int CODES_PER_FACELET = 1 << PackedMove.FACELET_BITS;
+    private static final int FACELET_MASK = CODES_PER_FACELET - 1;
+    private static final long SEED = 0x5EED_C0BE_2023_1016L;
+
+    private static final long[] KEYS = new SplittableRandom(SEED).longs(FACELET_COUNT * CODES_PER_FACELET).toArray();
+
+    private ZobristHashing() {
+    }
+
+    /**
+     * Computes the hash of a state from scratch.
+     *
+     * @param codes the face codes of the state
+     * @return the Zobrist hash of the state
+     */
+    static long hashOf(int[] codes) {
+        var hash = 0L;
+        for (int facelet = 0; facelet < FACELET_COUNT; facelet++) {
+            hash ^= KEYS[facelet * CODES_PER_FACELET + codeAt(codes, facelet)];
+        }
+        return hash;
+    }
+
+    /**
+     * Derives the hash of a rotated state from the hash of the original state.
+     *
+     * @param hash      the hash of the original state
+     * @param fromCodes the face codes of the original state
+     * @param rotation  the rotation applied to the original state
+     * @return the Zobrist hash of the rotated state
+     */
+    static long rehash(long hash, int[] fromCodes, RubiksRotation rotation) {
+        var targets = MovedFacelets.TARGETS[rotation.ordinal()];
+        var sources = MovedFacelets.SOURCES[rotation.ordinal()];
+        for (int i = 0; i < targets.length; i++) {
+            var target = targets[i];
+            hash ^= KEYS[target * CODES_PER_FACELET + codeAt(fromCodes, target)] ^ KEYS[target * CODES_PER_FACELET + codeAt(fromCodes, sources[i])];
+        }
+        return hash;
+    }
+
+    private static int codeAt(int[] codes, int facelet) {
+        return (codes[facelet / FACELETS_PER_FACE] >>> (facelet % FACELETS_PER_FACE * PackedMove.FACELET_BITS)) & FACELET_MASK;
+    }
+
+    /**
+     * The facelets moved by every rotation, held apart so that hashing a state from scratch does not need the move tables,
+     * which are traced through the cubes being hashed.
+     */
+    private static final class MovedFacelets {
+
+        private static final int[][] TARGETS = Stream.of(RubiksRotation.values())
+            .map(rotation -> IntStream.range(0, FACELET_COUNT).filter(target -> RubiksMoveTables.source(rotation, target) != target).toArray())
+            .toArray(int[][]::new);
+        private static final int[][] SOURCES = Stream.of(RubiksRotation.values())
+            .map(rotation -> IntStream.of(TARGETS[rotation.ordinal()]).map(target -> RubiksMoveTables.source(rotation, target)).toArray())
+            .toArray(int[][]::new);
+    }
+}
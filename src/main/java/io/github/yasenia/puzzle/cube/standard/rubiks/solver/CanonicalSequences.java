@@ -0,0 +1,88 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Utility class generating the canonical sequences of rotations, in which no face turns twice in a row, and two consecutive
+ * turns of opposite faces, which commute, come in a fixed order.
+ *
+ * <p>
+ * Any sequence equals a canonical one which is at most as long, so a search only needs to expand the canonical successors
+ * of a node. Two consecutive turns of the same face make a single turn or none, and of two consecutive turns of opposite
+ * faces, the one turning the face of the lower {@link SpatialOrientation} comes first: {@code U D} is canonical, while
+ * {@code U U'}, {@code U U} and {@code D U D} are not. This cuts the branching factor of a search from 18 to about 13.35.
+ *
+ * <p>
+ * The successors are precomputed, as arrays of rotation ordinals indexed by the ordinal of the previous rotation.
+ */
+public final class CanonicalSequences {
+
+    private static final RubiksRotation[] ROTATIONS = RubiksRotation.values();
+    private static final int[][] SUCCESSORS = successorTable(IntStream.range(0, ROTATIONS.length).toArray());
+
+    private CanonicalSequences() {
+    }
+
+    /**
+     * Returns whether a rotation may follow another one in a canonical sequence.
+     *
+     * @param previous the previous rotation
+     * @param next     the next rotation
+     * @return whether the sequence of both rotations is canonical
+     */
+    public static boolean isCanonical(RubiksRotation previous, RubiksRotation next) {
+        var face = next.orientation();
+        var previousFace = previous.orientation();
+        return face != previousFace && (face != previousFace.opposite() || face.ordinal() > previousFace.ordinal());
+    }
+
+    /**
+     * Returns whether a sequence of rotations is canonical.
+     *
+     * @param rotations the sequence of rotations
+     * @return whether every rotation of the sequence may follow the previous one
+     */
+    public static boolean isCanonical(List<RubiksRotation> rotations) {
+        return IntStream.range(1, rotations.size()).allMatch(index -> isCanonical(rotations.get(index - 1), rotations.get(index)));
+    }
+
+    /**
+     * Returns the rotations which may follow a rotation in a canonical sequence.
+     *
+     * @param previous the previous rotation
+     * @return the canonical successors, in the order of their ordinals
+     */
+    public static List<RubiksRotation> successors(RubiksRotation previous) {
+        return Arrays.stream(SUCCESSORS[previous.ordinal() + 1]).mapToObj(rotation -> ROTATIONS[rotation]).toList();
+    }
+
+    /**
+     * Returns the ordinals of the canonical successors of a rotation.
+     *
+     * @param previous the ordinal of the previous rotation, or -1 at the start of a sequence, which any rotation may start
+     * @return the ordinals of the canonical successors, which must not be modified
+     */
+    static int[] successors(int previous) {
+        return SUCCESSORS[previous + 1];
+    }
+
+    /**
+     * Precomputes the canonical successors among some rotations, as a search restricted to a subgroup does.
+     *
+     * @param rotations the ordinals of the rotations to choose successors from
+     * @return the ordinals of the canonical successors, indexed by the ordinal of the previous rotation plus one
+     */
+    static int[][] successorTable(int[] rotations) {
+        var table = new int[ROTATIONS.length + 1][];
+        table[0] = rotations.clone();
+        for (var previous : ROTATIONS) {
+            table[previous.ordinal() + 1] = Arrays.stream(rotations).filter(next -> isCanonical(previous, ROTATIONS[next])).toArray();
+        }
+        return table;
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+/**
+ * A pattern database storing the distance of every state modulo 3 only, in 2 bits, four states per byte, which takes half
+ * the memory of a {@link PatternDatabase} and so fits twice as many states in the caches.
+ *
+ * <p>
+ * A rotation changes the distance of a state by at most one, so the residue of a state is enough to recover its exact
+ * distance from the exact distance of any of its neighbors: this is how a search moving from a node to its successors reads
+ * the database. The exact distance of the root of a search is recovered once, by descending from neighbor to neighbor
+ * down to the solved state.
+ *
+ * <p>
+ * A database is either compressed into off-heap memory right after the generation of a {@link PatternDatabase}, or
+ * {@linkplain #load(Path, long, long, long, int, Supplier) loaded} as a memory mapping of a {@link TableFile}.
+ */
+public final class CompressedPatternDatabase {
+
+    /**
+     * The difference between the distance of a state and the distance of its neighbor, indexed by
+     * {@code neighborDistance << 2 | residue}.
+     */
+    private static final int[] DIFFERENCES = differences();
+
+    private final TableMemory residues;
+    private final long size;
+    private final long start;
+    private final int horizon;
+
+    private CompressedPatternDatabase(TableMemory residues, long size, long start, int horizon) {
+        this.residues = residues;
+        this.size = size;
+        this.start = start;
+        this.horizon = horizon;
+    }
+
+    /**
+     * Compresses a database.
+     *
+     * @param database     the database
+     * @param start        the index of the solved state
+     * @param maximumDepth the maximum depth the database was generated up to
+     * @return the compressed database, held in off-heap memory
+     */
+    public static CompressedPatternDatabase of(PatternDatabase database, long start, int maximumDepth) {
+        var size = database.size();
+        var residues = TableMemory.allocate(length(size));
+        for (long offset = 0; offset < residues.length(); offset++) {
+            var packed = 0;
+            for (long index = offset << 2; index < Math.min((offset + 1) << 2, size); index++) {
+                packed |= database.distance(index) % 3 << ((index & 3) << 1);
+            }
+            residues.put(offset, (byte) packed);
+        }
+        return new CompressedPatternDatabase(residues, size, start, maximumDepth + 1);
+    }
+
+    /**
+     * Loads a compressed database from a table file, generating, compressing and writing it first if the file is missing or
+     * stale.
+     *
+     * @param file         the table file
+     * @param fingerprint  the fingerprint of the database, as computed by {@link TableFile#fingerprint(String, int)}
+     * @param size         the number of states of the abstraction
+     * @param start        the index of the solved state
+     * @param maximumDepth the maximum depth the database is generated up to
+     * @param generator    the supplier generating the database
+     * @return the compressed database, mapping the table file
+     */
+    public static CompressedPatternDatabase load(Path file, long fingerprint, long size, long start, int maximumDepth, Supplier<PatternDatabase> generator) {
+        var residues = TableFile.map(file, fingerprint, length(size), () -> of(generator.get(), start, maximumDepth).residues);
+        return new CompressedPatternDatabase(residues, size, start, maximumDepth + 1);
+    }
+
+    /**
+     * Returns the distance of a state, given the distance of one of its neighbors.
+     *
+     * @param index            the index of the state
+     * @param neighborDistance the exact distance of a state one rotation away
+     * @return the exact distance, or one more than the maximum depth of generation for states beyond it
+     */
+    public int distance(long index, int neighborDistance) {
+        return neighborDistance + DIFFERENCES[neighborDistance << 2 | residue(index)];
+    }
+
+    /**
+     * Returns the distance of a state, descending from neighbor to neighbor down to the solved state.
+     *
+     * @param index the index of the state
+     * @param move  the move of the states
+     * @return the exact distance, or one more than the maximum depth of generation for states beyond it
+     */
+    public int distance(long index, PatternDatabase.StateMove move) {
+        var steps = 0;
+        for (var state = index; state != this.start; steps++) {
+            var closer = (residue(state) + 2) % 3;
+            var next = -1L;
+            for (int rotation = 0; rotation < OptimalSolver.ROTATION_COUNT && next < 0; rotation++) {
+                var neighbor = move.move(state, rotation);
+                if (residue(neighbor) == closer) next = neighbor;
+            }
+            // Only the states beyond the maximum depth of generation may have no closer neighbor.
+            if (next < 0) return steps + this.horizon;
+            state = next;
+        }
+        return steps;
+    }
+
+    public long size() {
+        return this.size;
+    }
+
+    private int residue(long index) {
+        return (this.residues.get(index >>> 2) >>> ((index & 3) << 1)) & 0b11;
+    }
+
+    private static long length(long size) {
+        return (size + 3) / 4;
+    }
+
+    private static int[] differences() {
+        var differences = new int[(PatternDatabase.MAXIMUM_DEPTH + 2) << 2];
+        for (int neighborDistance = 0; neighborDistance <= PatternDatabase.MAXIMUM_DEPTH + 1; neighborDistance++) {
+            for (int difference = -1; difference <= 1; difference++) {
+                var residue = Math.floorMod(neighborDistance + difference, 3);
+                differences[neighborDistance << 2 | residue] = difference;
+            }
+        }
+        return differences;
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.Edge;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.RubiksCubies;
+
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.EDGE_COUNT;
+
+/**
+ * The abstraction of the cube tracking the positions and flips of six edges only, whose indices are the states of an edge
+ * pattern database.
+ *
+ * <p>
+ * The index of a state packs the partial permutation of the six edges, ranked in the falling factorial base, with the six
+ * flips as the low bits. A search rather follows the unranked state of each group, which packs the position of each edge
+ * of the group in four bits, followed by their flips, and which a rotation moves with six table lookups: ranking it is
+ * then cheaper than ranking the partial permutation from the positions of all twelve edges.
+ */
+final class EdgePattern {
+
+    static final int GROUP_SIZE = 6;
+    static final int PERMUTATIONS = 12 * 11 * 10 * 9 * 8 * 7;
+    static final int SIZE = PERMUTATIONS << GROUP_SIZE;
+
+    /**
+     * The position whose edge moves to a position, by rotation ordinal and position.
+     */
+    static final byte[][] SOURCES = new byte[OptimalSolver.ROTATION_COUNT][EDGE_COUNT];
+
+    private static final int POSITION_BITS = 4;
+    private static final int POSITION_MASK = (1 << POSITION_BITS) - 1;
+    private static final int FLIP_SHIFT = GROUP_SIZE * POSITION_BITS;
+    private static final int FLIP_MASK = (1 << GROUP_SIZE) - 1;
+
+    /**
+     * The position an edge moves to from a position, with the flip applied to it as the next bit, by rotation ordinal and
+     * position.
+     */
+    private static final byte[][] MOVES = new byte[OptimalSolver.ROTATION_COUNT][EDGE_COUNT];
+
+    static {
+        for (var rotation : RubiksRotation.values()) {
+            var move = RubiksCubies.of(rotation);
+            for (var position : Edge.values()) {
+                var source = move.edgeAt(position).ordinal();
+                SOURCES[rotation.ordinal()][position.ordinal()] = (byte) source;
+                MOVES[rotation.ordinal()][source] = (byte) (position.ordinal() | move.flipAt(position) << POSITION_BITS);
+            }
+        }
+    }
+
+    private EdgePattern() {
+    }
+
+    /**
+     * Returns the unranked state of a group of edges.
+     *
+     * @param cubies    the cubies of the cube
+     * @param firstEdge the ordinal of the first edge of the group, whose edges have consecutive ordinals
+     * @return the position of each edge of the group in four bits, followed by their flips
+     */
+    static int state(RubiksCubies cubies, int firstEdge) {
+        var state = 0;
+        for (var position : Edge.values()) {
+            var edge = cubies.edgeAt(position).ordinal() - firstEdge;
+            if (edge < 0 || edge >= GROUP_SIZE) continue;
+            state |= position.ordinal() << (edge * POSITION_BITS) | cubies.flipAt(position) << (FLIP_SHIFT + edge);
+        }
+        return state;
+    }
+
+    /**
+     * Moves the unranked state of a group of edges.
+     *
+     * @param state    the unranked state
+     * @param rotation the ordinal of the rotation to apply
+     * @return the unranked state after the rotation
+     */
+    static int moveState(int state, int rotation) {
+        var moves = MOVES[rotation];
+        var moved = state & (FLIP_MASK << FLIP_SHIFT);
+        for (int edge = 0; edge < GROUP_SIZE; edge++) {
+            var move = moves[state >>> (edge * POSITION_BITS) & POSITION_MASK];
+            moved |= (move & POSITION_MASK) << (edge * POSITION_BITS);
+            moved ^= (move >>> POSITION_BITS) << (FLIP_SHIFT + edge);
+        }
+        return moved;
+    }
+
+    /**
+     * Returns the index of an unranked state of a group of edges.
+     *
+     * @param state the unranked state
+     * @return the index of the state in the edge pattern databases
+     */
+    static int index(int state) {
+        var used = 0;
+        var rank = 0;
+        for (int edge = 0; edge < GROUP_SIZE; edge++) {
+            var position = state >>> (edge * POSITION_BITS) & POSITION_MASK;
+            rank = rank * (EDGE_COUNT - edge) + position - Integer.bitCount(used & ((1 << position) - 1));
+            used |= 1 << position;
+        }
+        return rank << GROUP_SIZE | state >>> FLIP_SHIFT;
+    }
+
+    /**
+     * Moves the state of a group of edges, without going through the whole cube.
+     *
+     * @param index    the index of the state
+     * @param rotation the ordinal of the rotation to apply
+     * @return the index of the state after the rotation
+     */
+    static int move(int index, int rotation) {
+        return index(moveState(unrank(index), rotation));
+    }
+
+    private static int unrank(int index) {
+        var rank = index >>> GROUP_SIZE;
+        var digits = 0;
+        for (int edge = GROUP_SIZE - 1; edge >= 0; edge--) {
+            digits |= rank % (EDGE_COUNT - edge) << (edge * POSITION_BITS);
+            rank /= EDGE_COUNT - edge;
+        }
+        var used = 0;
+        var state = (index & FLIP_MASK) << FLIP_SHIFT;
+        for (int edge = 0; edge < GROUP_SIZE; edge++) {
+            // The position is the digit-th unused one in ascending order, found by clearing the lowest unused positions.
+            var free = ~used & ((1 << EDGE_COUNT) - 1);
+            for (int skipped = digits >>> (edge * POSITION_BITS) & POSITION_MASK; skipped > 0; skipped--) {
+                free &= free - 1;
+            }
+            var position = Integer.numberOfTrailingZeros(free);
+            used |= 1 << position;
+            state |= position << (edge * POSITION_BITS);
+        }
+        return state;
+    }
+}
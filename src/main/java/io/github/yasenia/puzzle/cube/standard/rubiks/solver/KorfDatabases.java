@@ -0,0 +1,101 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieMoveTables;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.RubiksCubies;
+
+import java.nio.file.Path;
+
+/**
+ * The pattern databases of Korf's optimal solver: one for the corners, and one for each of two disjoint groups of six edges.
+ *
+ * <p>
+ * The corner database is indexed by {@code cornerPermutation * 2187 + cornerOrientation}, and holds 88,179,840 states in
+ * 21 MiB. Each edge database holds 42,577,920 states in 10 MiB. As their abstractions are disjoint in cubies but not in
+ * moves, the heuristic is the maximum of the three distances rather than their sum. The databases are
+ * {@linkplain CompressedPatternDatabase compressed} to distances modulo 3, so a search follows the exact distances of
+ * each database from a node to its successors.
+ *
+ * @param corners     the corner database
+ * @param firstEdges  the database of the edges {@code UR}, {@code UF}, {@code UL}, {@code UB}, {@code DR} and {@code DF}
+ * @param secondEdges the database of the edges {@code DL}, {@code DB}, {@code FR}, {@code FL}, {@code BL} and {@code BR}
+ */
+public record KorfDatabases(CompressedPatternDatabase corners, CompressedPatternDatabase firstEdges, CompressedPatternDatabase secondEdges) {
+
+    static final int SECOND_GROUP_FIRST_EDGE = EdgePattern.GROUP_SIZE;
+
+    /**
+     * The version of the generation of the databases, to be increased whenever it changes, so that table files are rebuilt.
+     */
+    static final int VERSION = 2;
+
+    static final PatternDatabase.StateMove CORNER_MOVE = (index, rotation) -> moveCorners((int) index, rotation);
+    static final PatternDatabase.StateMove EDGE_MOVE = (index, rotation) -> EdgePattern.move((int) index, rotation);
+
+    private static final int CORNER_SIZE = CubieCoordinates.CORNER_PERMUTATIONS * CubieCoordinates.CORNER_ORIENTATIONS;
+    private static final RubiksRotation[] ROTATIONS = RubiksRotation.values();
+
+    /**
+     * Generates the complete databases in parallel, which takes about a minute on a single core, and less on more.
+     *
+     * @return the complete databases
+     */
+    public static KorfDatabases generate() {
+        return generate(PatternDatabase.MAXIMUM_DEPTH);
+    }
+
+    /**
+     * Generates the databases up to a maximum depth, which yields a weaker but still admissible heuristic.
+     *
+     * @param maximumDepth the depth at which the generation of each database stops
+     * @return the generated databases
+     */
+    public static KorfDatabases generate(int maximumDepth) {
+        return new KorfDatabases(
+            CompressedPatternDatabase.of(generateCorners(maximumDepth), 0, maximumDepth),
+            CompressedPatternDatabase.of(generateEdges(0, maximumDepth), solvedEdgeIndex(0), maximumDepth),
+            CompressedPatternDatabase.of(generateEdges(SECOND_GROUP_FIRST_EDGE, maximumDepth), solvedEdgeIndex(SECOND_GROUP_FIRST_EDGE), maximumDepth)
+        );
+    }
+
+    /**
+     * Loads the complete databases from table files in a directory, generating and writing the missing or stale ones first.
+     *
+     * @param directory the directory of the table files, created if need be
+     * @return the complete databases, mapping their table files
+     * @throws java.io.UncheckedIOException if a table file can neither be read nor written
+     */
+    public static KorfDatabases load(Path directory) {
+        var maximumDepth = PatternDatabase.MAXIMUM_DEPTH;
+        var corners = CompressedPatternDatabase.load(directory.resolve("korf-corners.table"), TableFile.fingerprint("korf-corners", VERSION), CORNER_SIZE,
+            0, maximumDepth, () -> generateCorners(maximumDepth));
+        var firstEdges = CompressedPatternDatabase.load(directory.resolve("korf-first-edges.table"), TableFile.fingerprint("korf-first-edges", VERSION), EdgePattern.SIZE,
+            solvedEdgeIndex(0), maximumDepth, () -> generateEdges(0, maximumDepth));
+        var secondEdges = CompressedPatternDatabase.load(directory.resolve("korf-second-edges.table"), TableFile.fingerprint("korf-second-edges", VERSION), EdgePattern.SIZE,
+            solvedEdgeIndex(SECOND_GROUP_FIRST_EDGE), maximumDepth, () -> generateEdges(SECOND_GROUP_FIRST_EDGE, maximumDepth));
+        return new KorfDatabases(corners, firstEdges, secondEdges);
+    }
+
+    static int cornerIndex(int cornerPermutation, int cornerOrientation) {
+        return cornerPermutation * CubieCoordinates.CORNER_ORIENTATIONS + cornerOrientation;
+    }
+
+    private static int moveCorners(int index, int rotation) {
+        var cornerPermutation = CubieMoveTables.moveCornerPermutation(index / CubieCoordinates.CORNER_ORIENTATIONS, ROTATIONS[rotation]);
+        var cornerOrientation = CubieMoveTables.moveCornerOrientation(index % CubieCoordinates.CORNER_ORIENTATIONS, ROTATIONS[rotation]);
+        return cornerIndex(cornerPermutation, cornerOrientation);
+    }
+
+    private static int solvedEdgeIndex(int firstEdge) {
+        return EdgePattern.index(EdgePattern.state(RubiksCubies.SOLVED, firstEdge));
+    }
+
+    private static PatternDatabase generateCorners(int maximumDepth) {
+        return PatternDatabase.generate(CORNER_SIZE, 0, KorfDatabases::moveCorners, maximumDepth);
+    }
+
+    private static PatternDatabase generateEdges(int firstEdge, int maximumDepth) {
+        return PatternDatabase.generate(EdgePattern.SIZE, solvedEdgeIndex(firstEdge), EdgePattern::move, maximumDepth);
+    }
+}
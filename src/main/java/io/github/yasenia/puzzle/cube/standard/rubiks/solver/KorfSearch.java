@@ -0,0 +1,136 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieMoveTables;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One iteration of the IDA* search of Korf's algorithm, over the subtree below a given path.
+ *
+ * <p>
+ * A search holds the mutable state of a single thread: the rotations of the current path. The state of a node is made of
+ * primitive coordinates only, the corners moved through {@code CubieMoveTables} and each group of edges through the tables
+ * of {@link EdgePattern}, so the search allocates nothing. The databases only store distances modulo 3, so the exact
+ * {@linkplain Distances distances} of the root are given to the search, which follows them from each node to its
+ * successors. Besides whether a solution was found, a search records the smallest estimated length which exceeded the
+ * bound, which is the bound of the next iteration.
+ */
+final class KorfSearch {
+
+    private static final RubiksRotation[] ROTATIONS = RubiksRotation.values();
+
+    private final KorfDatabases databases;
+    private final AtomicBoolean stopped;
+    private final int[] path = new int[OptimalSolver.MAXIMUM_LENGTH];
+    private int nextBound;
+
+    /**
+     * Creates a search.
+     *
+     * @param databases the databases of the heuristic
+     * @param stopped   the flag which, once set, makes the search give up, as another one already found a solution
+     */
+    KorfSearch(KorfDatabases databases, AtomicBoolean stopped) {
+        this.databases = databases;
+        this.stopped = stopped;
+    }
+
+    /**
+     * Searches for a solution of exactly the bound length starting with a given path.
+     *
+     * @param prefix            the rotations leading from the cube to solve to the root of the subtree
+     * @param cornerPermutation the corner permutation coordinate at the root of the subtree
+     * @param cornerOrientation the corner orientation coordinate at the root of the subtree
+     * @param firstEdgeState    the {@linkplain EdgePattern#state unranked state} of the first group of edges at the root
+     * @param secondEdgeState   the unranked state of the second group of edges at the root
+     * @param corners           the exact distance of the root in the corner database
+     * @param firstEdges        the exact distance of the root in the database of the first group of edges
+     * @param secondEdges       the exact distance of the root in the database of the second group of edges
+     * @param bound             the length of the solutions to search for
+     * @return whether a solution was found, in which case it is given by {@link #solution(int)}
+     */
+    boolean search(int[] prefix, int cornerPermutation, int cornerOrientation, int firstEdgeState, int secondEdgeState, int corners, int firstEdges, int secondEdges, int bound) {
+        var depth = prefix.length;
+        System.arraycopy(prefix, 0, this.path, 0, depth);
+        this.nextBound = Integer.MAX_VALUE;
+        return search(depth, bound, depth == 0 ? -1 : prefix[depth - 1], cornerPermutation, cornerOrientation, firstEdgeState, secondEdgeState, corners, firstEdges, secondEdges);
+    }
+
+    int[] solution(int length) {
+        return Arrays.copyOf(this.path, length);
+    }
+
+    /**
+     * Returns the smallest estimated length of the pruned paths of the last search, which no solution is shorter than if
+     * that search found none.
+     *
+     * @return the bound of the next iteration, or {@link Integer#MAX_VALUE} if no path was pruned
+     */
+    int nextBound() {
+        return this.nextBound;
+    }
+
+    private boolean search(int depth, int bound, int previous, int cornerPermutation, int cornerOrientation, int firstEdgeState, int secondEdgeState, int corners, int firstEdges, int secondEdges) {
+        if (this.stopped.get()) return false;
+        var distance = Math.max(corners, Math.max(firstEdges, secondEdges));
+        if (distance == 0) return depth == bound;
+        if (depth + distance > bound) return prune(depth + distance);
+        for (var rotation : CanonicalSequences.successors(previous)) {
+            var nextCornerPermutation = CubieMoveTables.moveCornerPermutation(cornerPermutation, ROTATIONS[rotation]);
+            var nextCornerOrientation = CubieMoveTables.moveCornerOrientation(cornerOrientation, ROTATIONS[rotation]);
+            // The corner distance alone often prunes the successor, before its edges are moved.
+            var nextCorners = this.databases.corners().distance(KorfDatabases.cornerIndex(nextCornerPermutation, nextCornerOrientation), corners);
+            if (depth + 1 + nextCorners > bound) {
+                prune(depth + 1 + nextCorners);
+                continue;
+            }
+            var nextFirstEdgeState = EdgePattern.moveState(firstEdgeState, rotation);
+            var nextFirstEdges = this.databases.firstEdges().distance(EdgePattern.index(nextFirstEdgeState), firstEdges);
+            if (depth + 1 + nextFirstEdges > bound) {
+                prune(depth + 1 + nextFirstEdges);
+                continue;
+            }
+            var nextSecondEdgeState = EdgePattern.moveState(secondEdgeState, rotation);
+            var nextSecondEdges = this.databases.secondEdges().distance(EdgePattern.index(nextSecondEdgeState), secondEdges);
+            this.path[depth] = rotation;
+            if (search(depth + 1, bound, rotation, nextCornerPermutation, nextCornerOrientation, nextFirstEdgeState, nextSecondEdgeState, nextCorners, nextFirstEdges, nextSecondEdges)) return true;
+        }
+        return false;
+    }
+
+    private boolean prune(int estimatedLength) {
+        this.nextBound = Math.min(this.nextBound, estimatedLength);
+        return false;
+    }
+
+    /**
+     * The exact distances of a state in each database.
+     *
+     * @param corners     the distance in the corner database
+     * @param firstEdges  the distance in the database of the first group of edges
+     * @param secondEdges the distance in the database of the second group of edges
+     */
+    record Distances(int corners, int firstEdges, int secondEdges) {
+
+        /**
+         * Recovers the distances of a state by descending to the solved state in each database, which is only worth doing
+         * at the root of a search: below it, each distance follows from the distance of the parent.
+         */
+        static Distances of(KorfDatabases databases, int cornerPermutation, int cornerOrientation, int firstEdgeState, int secondEdgeState) {
+            return new Distances(
+                databases.corners().distance(KorfDatabases.cornerIndex(cornerPermutation, cornerOrientation), KorfDatabases.CORNER_MOVE),
+                databases.firstEdges().distance(EdgePattern.index(firstEdgeState), KorfDatabases.EDGE_MOVE),
+                databases.secondEdges().distance(EdgePattern.index(secondEdgeState), KorfDatabases.EDGE_MOVE)
+            );
+        }
+
+        /**
+         * Returns the heuristic of the state, the largest of its distances.
+         */
+        int heuristic() {
+            return Math.max(this.corners, Math.max(this.firstEdges, this.secondEdges));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.RubiksCubeValidator;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.RubiksCubies;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.ValidationError;
+import io.github.yasenia.support.functional.MemoizedSupplier;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static io.github.yasenia.support.functional.Memoization.memoize;
+
+/**
+ * A solver finding the shortest solutions of Rubik's Cubes in the half-turn metric, with Korf's algorithm.
+ *
+ * <p>
+ * The solver runs an iterative-deepening A* search, whose heuristic is the maximum of the distances stored in the
+ * {@link KorfDatabases}. The state of a node is made of primitive coordinates, for the corners moved through
+ * {@code CubieMoveTables} and for each group of edges through the tables of {@link EdgePattern}, so the search allocates
+ * nothing. Only the {@linkplain CanonicalSequences canonical} successors of a node are expanded, as the others only lead to
+ * sequences equivalent to shorter or already visited ones. Each iteration raises the bound to the smallest estimated
+ * length it pruned, rather than by one move.
+ *
+ * <p>
+ * The heuristic is weak for such a deep search: on a single core, states 13 moves away are solved in under 2 seconds,
+ * 14 moves away in 1 to 8 seconds, and 15 moves away in about a minute, and each further move multiplies the time by
+ * about 10, so the 17 or 18 moves of typical random states take hours. The search spends most of that time waiting for
+ * the memory holding the databases, so it mainly gets faster with more cores, through a {@link ParallelOptimalSolver}.
+ *
+ * <p>
+ * A solver is not thread-safe, but solvers sharing the same databases may run concurrently. To split a single search across
+ * cores, use a {@link ParallelOptimalSolver} instead.
+ */
+public final class OptimalSolver {
+
+    static final int ROTATION_COUNT = RubiksRotation.values().length;
+
+    /**
+     * The largest number of moves any state needs in the half-turn metric.
+     */
+    static final int MAXIMUM_LENGTH = 20;
+
+    static final MemoizedSupplier<KorfDatabases> DATABASES = memoize(() -> KorfDatabases.generate());
+
+    private static final RubiksRotation[] ROTATIONS = RubiksRotation.values();
+
+    private final Supplier<KorfDatabases> databases;
+
+    /**
+     * Creates a solver using the complete databases, generated once on the first solve of any such solver.
+     */
+    public OptimalSolver() {
+        this.databases = DATABASES;
+    }
+
+    /**
+     * Creates a solver using the given databases.
+     *
+     * @param databases the databases
+     */
+    public OptimalSolver(KorfDatabases databases) {
+        this.databases = () -> databases;
+    }
+
+    /**
+     * Finds a shortest solution of a cube.
+     *
+     * @param cube the cube to solve
+     * @return the rotations solving the cube, with as few rotations as possible
+     * @throws IllegalArgumentException if the cube is not solvable
+     */
+    public List<RubiksRotation> solve(RubiksCube cube) {
+        var cubies = validCubies(cube);
+        var databases = this.databases.get();
+        var search = new KorfSearch(databases, new AtomicBoolean());
+        var cornerPermutation = cubies.cornerPermutation();
+        var cornerOrientation = cubies.cornerOrientation();
+        var firstEdgeState = EdgePattern.state(cubies, 0);
+        var secondEdgeState = EdgePattern.state(cubies, KorfDatabases.SECOND_GROUP_FIRST_EDGE);
+        var distances = KorfSearch.Distances.of(databases, cornerPermutation, cornerOrientation, firstEdgeState, secondEdgeState);
+        var bound = distances.heuristic();
+        while (bound <= MAXIMUM_LENGTH) {
+            if (search.search(new int[0], cornerPermutation, cornerOrientation, firstEdgeState, secondEdgeState, distances.corners(), distances.firstEdges(), distances.secondEdges(), bound)) {
+                return rotations(search.solution(bound));
+            }
+            bound = search.nextBound();
+        }
+        throw new IllegalStateException("No solution within " + MAXIMUM_LENGTH + " moves");
+    }
+
+    static RubiksCubies validCubies(RubiksCube cube) {
+        var errors = RubiksCubeValidator.validate(cube);
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(errors.stream().map(ValidationError::message).collect(Collectors.joining("; ", "Unsolvable cube: ", "")));
+        }
+        return RubiksCubies.of(cube);
+    }
+
+    static List<RubiksRotation> rotations(int[] path) {
+        return Arrays.stream(path).mapToObj(rotation -> ROTATIONS[rotation]).toList();
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieMoveTables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A solver finding the shortest solutions of Rubik's Cubes like {@link OptimalSolver}, splitting each iteration of its
+ * search across the cores of a {@link ForkJoinPool}.
+ *
+ * <p>
+ * Each iteration expands the search tree down to a split depth, and searches the subtree below each path of that depth in
+ * its own {@link RecursiveTask}, which idle workers steal from the others. Subtrees pruned before the split depth are
+ * searched no further. The workers share the solution found so far and the bound of the next iteration through atomics:
+ * as soon as any worker finds a solution, all the others give up, and the solution is the first one found rather than the
+ * first one in the order of the rotations.
+ *
+ * <p>
+ * A solver holds no state between solves, so it is thread-safe.
+ */
+public final class ParallelOptimalSolver {
+
+    /**
+     * The default split depth, which yields a few thousand subtrees, enough to keep dozens of cores busy until the end of
+     * an iteration.
+     */
+    public static final int DEFAULT_SPLIT_DEPTH = 3;
+
+    private static final RubiksRotation[] ROTATIONS = RubiksRotation.values();
+
+    private final Supplier<KorfDatabases> databases;
+    private final int splitDepth;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a solver using the complete databases, generated once on the first solve of any such solver, and the common
+     * pool.
+     */
+    public ParallelOptimalSolver() {
+        this(OptimalSolver.DATABASES, DEFAULT_SPLIT_DEPTH, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a solver using the given databases and the common pool.
+     *
+     * @param databases the databases
+     */
+    public ParallelOptimalSolver(KorfDatabases databases) {
+        this(() -> databases, DEFAULT_SPLIT_DEPTH, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a solver using the given databases and pool.
+     *
+     * @param databases  the databases
+     * @param splitDepth the depth of the paths whose subtrees are searched by separate tasks
+     * @param pool       the pool running the tasks
+     * @throws IllegalArgumentException if the split depth is negative or greater than {@link OptimalSolver#MAXIMUM_LENGTH}
+     */
+    public ParallelOptimalSolver(KorfDatabases databases, int splitDepth, ForkJoinPool pool) {
+        this(() -> databases, splitDepth, pool);
+    }
+
+    private ParallelOptimalSolver(Supplier<KorfDatabases> databases, int splitDepth, ForkJoinPool pool) {
+        if (splitDepth < 0 || splitDepth > OptimalSolver.MAXIMUM_LENGTH) {
+            throw new IllegalArgumentException("Split depth must be between 0 and " + OptimalSolver.MAXIMUM_LENGTH + ": " + splitDepth);
+        }
+        this.databases = databases;
+        this.splitDepth = splitDepth;
+        this.pool = pool;
+    }
+
+    /**
+     * Finds a shortest solution of a cube.
+     *
+     * @param cube the cube to solve
+     * @return the rotations solving the cube, with as few rotations as possible
+     * @throws IllegalArgumentException if the cube is not solvable
+     */
+    public List<RubiksRotation> solve(RubiksCube cube) {
+        var cubies = OptimalSolver.validCubies(cube);
+        var databases = this.databases.get();
+        var cornerPermutation = cubies.cornerPermutation();
+        var cornerOrientation = cubies.cornerOrientation();
+        var firstEdgeState = EdgePattern.state(cubies, 0);
+        var secondEdgeState = EdgePattern.state(cubies, KorfDatabases.SECOND_GROUP_FIRST_EDGE);
+        var distances = KorfSearch.Distances.of(databases, cornerPermutation, cornerOrientation, firstEdgeState, secondEdgeState);
+        var bound = distances.heuristic();
+        while (bound <= OptimalSolver.MAXIMUM_LENGTH) {
+            var iteration = new Iteration(databases, bound, this.splitDepth);
+            this.pool.invoke(new SubtreeTask(iteration, new int[0], cornerPermutation, cornerOrientation, firstEdgeState, secondEdgeState, distances.corners(),
+                distances.firstEdges(), distances.secondEdges()));
+            var solution = iteration.solution.get();
+            if (solution != null) return OptimalSolver.rotations(solution);
+            bound = iteration.nextBound.get();
+        }
+        throw new IllegalStateException("No solution within " + OptimalSolver.MAXIMUM_LENGTH + " moves");
+    }
+
+    /**
+     * The state shared by the tasks of an iteration.
+     */
+    private static final class Iteration {
+
+        private final KorfDatabases databases;
+        private final int bound;
+        private final int splitDepth;
+        private final AtomicBoolean stopped = new AtomicBoolean();
+        private final AtomicReference<int[]> solution = new AtomicReference<>();
+        private final AtomicInteger nextBound = new AtomicInteger(Integer.MAX_VALUE);
+
+        private Iteration(KorfDatabases databases, int bound, int splitDepth) {
+            this.databases = databases;
+            this.bound = bound;
+            this.splitDepth = splitDepth;
+        }
+    }
+
+    /**
+     * The task searching the subtree below a path, either by forking a task per successor above the split depth, or by
+     * searching it sequentially.
+     */
+    private static final class SubtreeTask extends RecursiveTask<Boolean> {
+
+        // Tasks are serializable as every ForkJoinTask is, but they are never serialized: they only live during a solve.
+        private static final long serialVersionUID = 1L;
+
+        private final transient Iteration iteration;
+        private final int[] prefix;
+        private final int cornerPermutation;
+        private final int cornerOrientation;
+        private final int firstEdgeState;
+        private final int secondEdgeState;
+        private final int corners;
+        private final int firstEdges;
+        private final int secondEdges;
+
+        private SubtreeTask(Iteration iteration, int[] prefix, int cornerPermutation, int cornerOrientation, int firstEdgeState, int secondEdgeState, int corners,
+            int firstEdges, int secondEdges) {
+            this.iteration = iteration;
+            this.prefix = prefix;
+            this.cornerPermutation = cornerPermutation;
+            this.cornerOrientation = cornerOrientation;
+            this.firstEdgeState = firstEdgeState;
+            this.secondEdgeState = secondEdgeState;
+            this.corners = corners;
+            this.firstEdges = firstEdges;
+            this.secondEdges = secondEdges;
+        }
+
+        @Override
+        protected Boolean compute() {
+            var iteration = this.iteration;
+            if (iteration.stopped.get()) return false;
+            var depth = this.prefix.length;
+            var distance = Math.max(this.corners, Math.max(this.firstEdges, this.secondEdges));
+            // Leaves and pruned paths are left to the sequential search, which records their estimated length.
+            if (depth >= iteration.splitDepth || distance == 0 || depth + distance > iteration.bound) return searchSubtree();
+            var databases = iteration.databases;
+            var previous = depth == 0 ? -1 : this.prefix[depth - 1];
+            var subtasks = new ArrayList<SubtreeTask>();
+            for (var rotation : CanonicalSequences.successors(previous)) {
+                var nextCornerPermutation = CubieMoveTables.moveCornerPermutation(this.cornerPermutation, ROTATIONS[rotation]);
+                var nextCornerOrientation = CubieMoveTables.moveCornerOrientation(this.cornerOrientation, ROTATIONS[rotation]);
+                var nextFirstEdgeState = EdgePattern.moveState(this.firstEdgeState, rotation);
+                var nextSecondEdgeState = EdgePattern.moveState(this.secondEdgeState, rotation);
+                var nextPrefix = Arrays.copyOf(this.prefix, depth + 1);
+                nextPrefix[depth] = rotation;
+                subtasks.add(new SubtreeTask(
+                    iteration,
+                    nextPrefix,
+                    nextCornerPermutation,
+                    nextCornerOrientation,
+                    nextFirstEdgeState,
+                    nextSecondEdgeState,
+                    databases.corners().distance(KorfDatabases.cornerIndex(nextCornerPermutation, nextCornerOrientation), this.corners),
+                    databases.firstEdges().distance(EdgePattern.index(nextFirstEdgeState), this.firstEdges),
+                    databases.secondEdges().distance(EdgePattern.index(nextSecondEdgeState), this.secondEdges)
+                ));
+            }
+            var found = false;
+            for (var subtask : ForkJoinTask.invokeAll(subtasks)) {
+                found |= subtask.join();
+            }
+            return found;
+        }
+
+        private boolean searchSubtree() {
+            var iteration = this.iteration;
+            var search = new KorfSearch(iteration.databases, iteration.stopped);
+            var found = search.search(this.prefix, this.cornerPermutation, this.cornerOrientation, this.firstEdgeState, this.secondEdgeState, this.corners, this.firstEdges,
+                this.secondEdges, iteration.bound);
+            if (found && iteration.solution.compareAndSet(null, search.solution(iteration.bound))) iteration.stopped.set(true);
+            iteration.nextBound.accumulateAndGet(search.nextBound(), Math::min);
+            return found;
+        }
+    }
+}
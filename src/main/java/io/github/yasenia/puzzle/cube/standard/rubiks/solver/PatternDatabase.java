@@ -0,0 +1,266 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import java.nio.file.Path;
+import java.util.function.IntBinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * A pattern database, mapping every state of an abstraction of the cube to its exact distance from the solved state.
+ *
+ * <p>
+ * Distances are stored in 4-bit nibbles, two per byte, as no abstraction used by the solvers is more than 14 moves deep.
+ * Any such distance is a lower bound of the number of moves solving the whole cube, which makes it an admissible
+ * heuristic for IDA*.
+ *
+ * <p>
+ * A database may be generated up to a maximum depth only, for instance in tests: states further away are then stored as
+ * one more than the maximum depth, which is still a lower bound of their distance.
+ *
+ * <p>
+ * States are indexed by {@code long}, and the nibbles are held by {@link TableMemory}, so a database may hold several
+ * billion states. A database is either held in off-heap memory right after its generation, or
+ * {@linkplain #load(Path, long, long, Supplier) loaded} as a memory mapping of a {@link TableFile}.
+ */
+public final class PatternDatabase {
+
+    /**
+     * The greatest maximum depth of a generated database, so that unvisited states can be marked by the largest nibble.
+     */
+    public static final int MAXIMUM_DEPTH = 14;
+
+    private static final int UNVISITED = 0xF;
+    private static final int NIBBLES_PER_WORD = Long.SIZE / 4;
+    private static final int WORDS_PER_CHUNK = 1 << 12;
+    private static final long NIBBLE_ONES = 0x1111_1111_1111_1111L;
+    private static final long NIBBLE_LOW_BITS = 0x7777_7777_7777_7777L;
+    private static final int[] ALL_ROTATIONS = IntStream.range(0, OptimalSolver.ROTATION_COUNT).toArray();
+
+    private final TableMemory nibbles;
+    private final long size;
+
+    private PatternDatabase(TableMemory nibbles, long size) {
+        this.nibbles = nibbles;
+        this.size = size;
+    }
+
+    /**
+     * Generates a database by breadth-first search from the solved state, one depth at a time.
+     *
+     * @param size         the number of states of the abstraction, indexed from 0
+     * @param start        the index of the solved state
+     * @param move         the function mapping the index of a state and the ordinal of a rotation to the index of the state
+     *                     after the rotation
+     * @param maximumDepth the depth at which the search stops, at most {@link #MAXIMUM_DEPTH}
+     * @return the generated database
+     */
+    public static PatternDatabase generate(int size, int start, IntBinaryOperator move, int maximumDepth) {
+        return generate(size, start, move, ALL_ROTATIONS, maximumDepth);
+    }
+
+    /**
+     * Generates a database by breadth-first search from the solved state, using only some rotations, as a phase of a
+     * multi-phase solver does.
+     *
+     * @param size         the number of states of the abstraction, indexed from 0
+     * @param start        the index of the solved state
+     * @param move         the function mapping the index of a state and the ordinal of a rotation to the index of the state
+     *                     after the rotation
+     * @param rotations    the ordinals of the rotations to search with, which must contain the inverse of each of them
+     * @param maximumDepth the depth at which the search stops, at most {@link #MAXIMUM_DEPTH}
+     * @return the generated database
+     */
+    public static PatternDatabase generate(int size, int start, IntBinaryOperator move, int[] rotations, int maximumDepth) {
+        return generate(size, start, move, rotations, maximumDepth, (depth, states, visitedStates) -> { });
+    }
+
+    /**
+     * Generates a database by breadth-first search from the solved state, reporting its progress after each depth.
+     *
+     * <p>
+     * Each depth is generated in parallel, by chunks of states, on off-heap {@code long} words updated by
+     * compare-and-set. While the states of the previous depth are fewer than the unvisited ones, the search runs forward,
+     * visiting the unvisited successors of the states of the previous depth. Otherwise, as for the last and densest depths,
+     * it runs backward, visiting the unvisited states having a successor at the previous depth, which is the same as having
+     * a predecessor there since the rotations contain their inverses.
+     *
+     * @param size         the number of states of the abstraction, indexed from 0
+     * @param start        the index of the solved state
+     * @param move         the function mapping the index of a state and the ordinal of a rotation to the index of the state
+     *                     after the rotation, which must be thread-safe
+     * @param rotations    the ordinals of the rotations to search with, which must contain the inverse of each of them
+     * @param maximumDepth the depth at which the search stops, at most {@link #MAXIMUM_DEPTH}
+     * @param progress     the listener notified after each depth
+     * @return the generated database
+     */
+    public static PatternDatabase generate(int size, int start, IntBinaryOperator move, int[] rotations, int maximumDepth, Progress progress) {
+        return generateLarge(size, start, (index, rotation) -> move.applyAsInt((int) index, rotation), rotations, maximumDepth, progress);
+    }
+
+    /**
+     * Generates a database of an abstraction with more states than an {@code int} can index, as
+     * {@link #generate(int, int, IntBinaryOperator, int[], int, Progress)} does.
+     *
+     * @param size         the number of states of the abstraction, indexed from 0
+     * @param start        the index of the solved state
+     * @param move         the move of the states, which must be thread-safe
+     * @param rotations    the ordinals of the rotations to search with, which must contain the inverse of each of them
+     * @param maximumDepth the depth at which the search stops, at most {@link #MAXIMUM_DEPTH}
+     * @param progress     the listener notified after each depth
+     * @return the generated database, held in off-heap memory
+     */
+    public static PatternDatabase generateLarge(long size, long start, StateMove move, int[] rotations, int maximumDepth, Progress progress) {
+        if (maximumDepth < 0 || maximumDepth > MAXIMUM_DEPTH) throw new IllegalArgumentException("Maximum depth must be between 0 and " + MAXIMUM_DEPTH + ": " + maximumDepth);
+        var words = TableMemory.allocate(length(size));
+        var wordCount = words.length() / Long.BYTES;
+        chunks(wordCount).forEach(chunk -> {
+            for (long word = (long) chunk * WORDS_PER_CHUNK, end = Math.min(word + WORDS_PER_CHUNK, wordCount); word < end; word++) {
+                words.putWord(word, -1L);
+            }
+        });
+        visit(words, start, 0);
+        var visitedStates = 1L;
+        progress.depthGenerated(0, 1, visitedStates);
+        var frontier = 1L;
+        for (int depth = 0; depth < maximumDepth && frontier > 0; depth++) {
+            var previousDepth = depth;
+            var backward = frontier > size - visitedStates;
+            frontier = chunks(wordCount)
+                .mapToLong(chunk -> backward
+                    ? searchBackward(words, size, chunk, previousDepth, move, rotations)
+                    : searchForward(words, chunk, previousDepth, move, rotations))
+                .sum();
+            visitedStates += frontier;
+            progress.depthGenerated(depth + 1, frontier, visitedStates);
+        }
+        var horizon = (long) maximumDepth + 1;
+        chunks(wordCount).forEach(chunk -> {
+            for (long word = (long) chunk * WORDS_PER_CHUNK, end = Math.min(word + WORDS_PER_CHUNK, wordCount); word < end; word++) {
+                // Flipping the bits of UNVISITED not set in the horizon turns every unvisited nibble into the horizon.
+                var nibbles = words.getWord(word);
+                words.putWord(word, nibbles ^ (matches(nibbles, UNVISITED) >>> 3) * (UNVISITED ^ horizon));
+            }
+        });
+        return new PatternDatabase(words, size);
+    }
+
+    /**
+     * Loads a database from a table file, generating and writing it first if the file is missing or stale.
+     *
+     * @param file        the table file
+     * @param fingerprint the fingerprint of the database, as computed by {@link TableFile#fingerprint(String, int)}
+     * @param size        the number of states of the abstraction
+     * @param generator   the supplier generating the database
+     * @return the database, mapping the table file
+     */
+    public static PatternDatabase load(Path file, long fingerprint, long size, Supplier<PatternDatabase> generator) {
+        return new PatternDatabase(TableFile.map(file, fingerprint, length(size), () -> generator.get().nibbles), size);
+    }
+
+    /**
+     * Returns the distance of a state from the solved state.
+     *
+     * @param index the index of the state
+     * @return the exact distance, or one more than the maximum depth of generation for states beyond it
+     */
+    public int distance(long index) {
+        return (this.nibbles.get(index >>> 1) >>> ((index & 1) << 2)) & 0xF;
+    }
+
+    public long size() {
+        return this.size;
+    }
+
+    private static long length(long size) {
+        // The nibbles are padded up to a whole number of words, which the generation updates atomically.
+        return (size + NIBBLES_PER_WORD - 1) / NIBBLES_PER_WORD * Long.BYTES;
+    }
+
+    private static IntStream chunks(long wordCount) {
+        return IntStream.range(0, (int) ((wordCount + WORDS_PER_CHUNK - 1) / WORDS_PER_CHUNK)).parallel();
+    }
+
+    private static long searchForward(TableMemory words, int chunk, int previousDepth, StateMove move, int[] rotations) {
+        var visited = 0L;
+        for (long word = (long) chunk * WORDS_PER_CHUNK, end = Math.min(word + WORDS_PER_CHUNK, words.length() / Long.BYTES); word < end; word++) {
+            for (var states = matches(words.getWord(word), previousDepth); states != 0; states &= states - 1) {
+                var index = word * NIBBLES_PER_WORD + (Long.numberOfTrailingZeros(states) >>> 2);
+                for (var rotation : rotations) {
+                    if (visit(words, move.move(index, rotation), previousDepth + 1)) visited++;
+                }
+            }
+        }
+        return visited;
+    }
+
+    private static long searchBackward(TableMemory words, long size, int chunk, int previousDepth, StateMove move, int[] rotations) {
+        var visited = 0L;
+        for (long word = (long) chunk * WORDS_PER_CHUNK, end = Math.min(word + WORDS_PER_CHUNK, words.length() / Long.BYTES); word < end; word++) {
+            for (var states = matches(words.getWord(word), UNVISITED); states != 0; states &= states - 1) {
+                var index = word * NIBBLES_PER_WORD + (Long.numberOfTrailingZeros(states) >>> 2);
+                // The nibbles past the size pad the last word, and are not states.
+                if (index >= size) break;
+                for (var rotation : rotations) {
+                    if (get(words, move.move(index, rotation)) != previousDepth) continue;
+                    if (visit(words, index, previousDepth + 1)) visited++;
+                    break;
+                }
+            }
+        }
+        return visited;
+    }
+
+    private static long matches(long word, long value) {
+        // The highest bit of a nibble of the mask is set if the nibble of the word equals the value, without carry between nibbles.
+        var difference = word ^ value * NIBBLE_ONES;
+        return ~(((difference & NIBBLE_LOW_BITS) + NIBBLE_LOW_BITS) | difference) & ~NIBBLE_LOW_BITS;
+    }
+
+    private static int get(TableMemory words, long index) {
+        return (int) (words.getWord(index / NIBBLES_PER_WORD) >>> ((index % NIBBLES_PER_WORD) << 2)) & 0xF;
+    }
+
+    private static boolean visit(TableMemory words, long index, int distance) {
+        var word = index / NIBBLES_PER_WORD;
+        var shift = (int) (index % NIBBLES_PER_WORD) << 2;
+        var current = words.getWord(word);
+        while ((current >>> shift & 0xF) == UNVISITED) {
+            var witness = words.compareAndExchangeWord(word, current, current & ~(0xFL << shift) | (long) distance << shift);
+            if (witness == current) return true;
+            current = witness;
+        }
+        return false;
+    }
+
+    /**
+     * The move of the states of an abstraction indexed by {@code long}.
+     */
+    @FunctionalInterface
+    public interface StateMove {
+
+        /**
+         * Moves a state.
+         *
+         * @param index    the index of the state
+         * @param rotation the ordinal of the rotation to apply
+         * @return the index of the state after the rotation
+         */
+        long move(long index, int rotation);
+    }
+
+    /**
+     * A listener of the progress of the generation of a database.
+     */
+    @FunctionalInterface
+    public interface Progress {
+
+        /**
+         * Notifies that all the states at a depth were found.
+         *
+         * @param depth         the depth
+         * @param states        the number of states at that depth
+         * @param visitedStates the number of states up to that depth
+         */
+        void depthGenerated(int depth, long states, long visitedStates);
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * Utility class persisting solver tables into binary files, which are memory-mapped rather than read on load.
+ *
+ * <p>
+ * A table file starts with a 64-byte header, followed by the table itself:
+ * <ul>
+ *     <li>the magic number {@code PZLTABLE}, on 8 bytes</li>
+ *     <li>the {@linkplain #FORMAT_VERSION format version}, on 4 bytes, followed by 4 reserved bytes</li>
+ *     <li>the fingerprint of the table, on 8 bytes, identifying its content and the version of its generation</li>
+ *     <li>the length of the table in bytes, on 8 bytes</li>
+ *     <li>the CRC-32C checksum of the table, on 4 bytes, followed by reserved bytes up to the end of the header</li>
+ * </ul>
+ * All numbers are little-endian, and so are the numbers of the tables themselves. As the length is a {@code long}, a table
+ * may be larger than 2 GiB, in which case it is mapped by several segments of {@link TableMemory}.
+ *
+ * <p>
+ * A file is only used if every field of its header matches and its checksum is right. Otherwise, the table is rebuilt and
+ * written to a temporary file, which then atomically replaces the table file, so concurrent processes never see a partial
+ * file. The table is always returned as a read-only mapping of the file, so processes mapping the same file share the same
+ * physical pages, and a table takes no heap.
+ *
+ * <p>
+ * The checksum is verified on every load, which reads the whole table once. CRC-32C is computed by a CPU instruction, at
+ * several GB/s: the 41 MiB of the {@link KorfDatabases} are verified in about 5 ms once the files are in the page cache,
+ * plus a one-off warm-up of about 50 ms for the first table of a process. With a cold page cache, the verification reads
+ * the table from disk instead, which takes as long as the disk does, but also brings in the pages a search would have
+ * faulted in later one by one.
+ */
+public final class TableFile {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final long MAGIC = 0x454C_4241_544C_5A50L;
+    private static final int HEADER_SIZE = 64;
+
+    private TableFile() {
+    }
+
+    /**
+     * Computes the fingerprint of a table, which changes whenever the table or the way it is generated does.
+     *
+     * @param name    the name of the table
+     * @param version the version of the generation of the table, to be increased whenever it changes
+     * @return the fingerprint
+     */
+    public static long fingerprint(String name, int version) {
+        return (long) name.hashCode() << Integer.SIZE | version & 0xFFFF_FFFFL;
+    }
+
+    /**
+     * Maps a table file, building and writing it first if it is missing or stale.
+     *
+     * @param file        the table file
+     * @param fingerprint the expected fingerprint of the table
+     * @param length      the expected length of the table in bytes
+     * @param builder     the supplier of the table, as memory of the expected length
+     * @return the read-only memory mapping the table
+     * @throws UncheckedIOException if the table file can neither be read nor written
+     */
+    public static TableMemory map(Path file, long fingerprint, long length, Supplier<TableMemory> builder) {
+        return map(file, fingerprint, length, builder, TableMemory.SEGMENT_SHIFT);
+    }
+
+    /**
+     * Maps a table file by segments of a given size, building and writing it first if it is missing or stale.
+     *
+     * @param file         the table file
+     * @param fingerprint  the expected fingerprint of the table
+     * @param length       the expected length of the table in bytes
+     * @param builder      the supplier of the table, as memory of the expected length
+     * @param segmentShift the base 2 logarithm of the size of the mapped segments
+     * @return the read-only memory mapping the table
+     * @throws UncheckedIOException if the table file can neither be read nor written
+     */
+    static TableMemory map(Path file, long fingerprint, long length, Supplier<TableMemory> builder, int segmentShift) {
+        try {
+            var table = tryMap(file, fingerprint, length, segmentShift);
+            if (table != null) return table;
+            var built = builder.get();
+            if (built.length() != length) throw new IllegalStateException("Table should be " + length + " bytes long: " + built.length());
+            write(file, fingerprint, built);
+            table = tryMap(file, fingerprint, length, segmentShift);
+            if (table == null) throw new IOException("Table file was modified while being written: " + file);
+            return table;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static TableMemory tryMap(Path file, long fingerprint, long length, int segmentShift) throws IOException {
+        if (!Files.isRegularFile(file)) return null;
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != HEADER_SIZE + length) return null;
+            var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) return null;
+            }
+            header.flip();
+            if (header.getLong() != MAGIC || header.getInt() != FORMAT_VERSION) return null;
+            header.getInt();
+            if (header.getLong() != fingerprint || header.getLong() != length) return null;
+            var checksum = header.getInt();
+            var table = TableMemory.map(channel, HEADER_SIZE, length, FileChannel.MapMode.READ_ONLY, segmentShift);
+            // The mapping outlives the channel, as specified by FileChannel#map. Verifying it reads every page of the table.
+            return checksum(table) == checksum ? table : null;
+        }
+    }
+
+    private static void write(Path file, long fingerprint, TableMemory table) throws IOException {
+        var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+            .putLong(MAGIC)
+            .putInt(FORMAT_VERSION)
+            .putInt(0)
+            .putLong(fingerprint)
+            .putLong(table.length())
+            .putInt(checksum(table));
+        header.clear();
+        var directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        var temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (var channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (header.hasRemaining()) channel.write(header);
+                for (int segment = 0; segment < table.segmentCount(); segment++) {
+                    var content = table.segment(segment);
+                    while (content.hasRemaining()) channel.write(content);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static int checksum(TableMemory table) {
+        var crc = new CRC32C();
+        for (int segment = 0; segment < table.segmentCount(); segment++) {
+            crc.update(table.segment(segment));
+        }
+        return (int) crc.getValue();
+    }
+}
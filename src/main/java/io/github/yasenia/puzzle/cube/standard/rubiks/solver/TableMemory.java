@@ -0,0 +1,136 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * The memory of a solver table: a sequence of bytes indexed by {@code long}, so a table may be larger than the 2 GiB a Java
+ * array or a single buffer can hold.
+ *
+ * <p>
+ * The bytes are held by segments of at most 1 GiB, which are buffers either wrapping heap memory, allocated off-heap, or
+ * mapping a file. Off-heap and mapped memory is neither moved nor scanned by the garbage collector, which only tracks the
+ * few segments themselves, so tables of several gigabytes put no pressure on it. Off-heap memory is limited by
+ * {@code -XX:MaxDirectMemorySize}, which defaults to the maximum heap size.
+ *
+ * <p>
+ * The memory is also seen as little-endian {@code long} words, which can be updated atomically in off-heap memory.
+ */
+public final class TableMemory {
+
+    static final int SEGMENT_SHIFT = 30;
+
+    private static final int WORD_SHIFT = 3;
+    private static final VarHandle WORDS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final ByteBuffer[] segments;
+    private final long length;
+    private final int segmentShift;
+    private final long segmentMask;
+
+    private TableMemory(ByteBuffer[] segments, long length, int segmentShift) {
+        this.segments = segments;
+        this.length = length;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+    }
+
+    /**
+     * Allocates zeroed off-heap memory.
+     *
+     * @param length the length of the memory in bytes
+     * @return the allocated memory
+     */
+    public static TableMemory allocate(long length) {
+        return allocate(length, SEGMENT_SHIFT);
+    }
+
+    /**
+     * Allocates zeroed off-heap memory held by segments of a given size, so that tests cross segment boundaries without
+     * allocating gigabytes.
+     *
+     * @param length       the length of the memory in bytes
+     * @param segmentShift the base 2 logarithm of the segment size, at least that of a word
+     * @return the allocated memory
+     */
+    static TableMemory allocate(long length, int segmentShift) {
+        var segments = new ByteBuffer[segmentCount(length, segmentShift)];
+        for (int segment = 0; segment < segments.length; segment++) {
+            var segmentLength = segmentLength(length, segment, segmentShift);
+            // Aligning each segment on words lets its words be updated atomically.
+            segments[segment] = ByteBuffer.allocateDirect(segmentLength + Long.BYTES).alignedSlice(Long.BYTES).limit(segmentLength).slice()
+                .order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return new TableMemory(segments, length, segmentShift);
+    }
+
+    /**
+     * Wraps a buffer, from its position to its limit, whose content is then shared.
+     *
+     * @param buffer the buffer
+     * @return the memory wrapping the buffer
+     */
+    public static TableMemory wrap(ByteBuffer buffer) {
+        // A single buffer may be longer than a segment, so its segment spans the whole range of int indexes.
+        return new TableMemory(new ByteBuffer[] {buffer.slice().order(ByteOrder.LITTLE_ENDIAN)}, buffer.remaining(), Integer.SIZE - 1);
+    }
+
+    static TableMemory map(FileChannel channel, long position, long length, FileChannel.MapMode mode, int segmentShift) throws IOException {
+        var segments = new ByteBuffer[segmentCount(length, segmentShift)];
+        for (int segment = 0; segment < segments.length; segment++) {
+            var segmentPosition = position + ((long) segment << segmentShift);
+            segments[segment] = channel.map(mode, segmentPosition, segmentLength(length, segment, segmentShift)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return new TableMemory(segments, length, segmentShift);
+    }
+
+    public long length() {
+        return this.length;
+    }
+
+    public byte get(long index) {
+        return this.segments[(int) (index >>> this.segmentShift)].get((int) (index & this.segmentMask));
+    }
+
+    public void put(long index, byte value) {
+        this.segments[(int) (index >>> this.segmentShift)].put((int) (index & this.segmentMask), value);
+    }
+
+    long getWord(long word) {
+        var index = word << WORD_SHIFT;
+        return (long) WORDS.getOpaque(this.segments[(int) (index >>> this.segmentShift)], (int) (index & this.segmentMask));
+    }
+
+    void putWord(long word, long value) {
+        var index = word << WORD_SHIFT;
+        WORDS.setOpaque(this.segments[(int) (index >>> this.segmentShift)], (int) (index & this.segmentMask), value);
+    }
+
+    long compareAndExchangeWord(long word, long expected, long value) {
+        var index = word << WORD_SHIFT;
+        return (long) WORDS.compareAndExchange(this.segments[(int) (index >>> this.segmentShift)], (int) (index & this.segmentMask), expected, value);
+    }
+
+    int segmentCount() {
+        return this.segments.length;
+    }
+
+    /**
+     * Returns a segment of the memory, as an independent little-endian buffer sharing its content.
+     */
+    ByteBuffer segment(int segment) {
+        return this.segments[segment].duplicate().clear().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int segmentCount(long length, int segmentShift) {
+        return (int) ((length + (1L << segmentShift) - 1) >>> segmentShift);
+    }
+
+    private static int segmentLength(long length, int segment, int segmentShift) {
+        return (int) Math.min(length - ((long) segment << segmentShift), 1L << segmentShift);
+    }
+}
@@ -0,0 +1,222 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieMoveTables;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.Edge;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.RubiksCubies;
+import io.github.yasenia.support.functional.MemoizedSupplier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.CORNER_ORIENTATIONS;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.CORNER_PERMUTATIONS;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.EDGE_COUNT;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.EDGE_ORIENTATIONS;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.solver.TwoPhaseTables.LAYER_EDGE_COUNT;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.solver.TwoPhaseTables.LAYER_EDGE_PERMUTATIONS;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.solver.TwoPhaseTables.SLICE_EDGE_COUNT;
+import static io.github.yasenia.support.functional.Memoization.memoize;
+
+/**
+ * A solver finding short solutions of Rubik's Cubes quickly, with Kociemba's two-phase algorithm.
+ *
+ * <p>
+ * Phase one searches for rotations bringing the cube into the subgroup generated by {@code U}, {@code D}, {@code R2},
+ * {@code L2}, {@code F2} and {@code B2}, in which every corner and edge is oriented and the middle-layer edges are in the
+ * middle layer. Phase two then solves the cube with the rotations of that subgroup only. Both phases are iterative-deepening
+ * searches over coordinates, moved through move tables and pruned by the pattern databases of {@link TwoPhaseTables}.
+ *
+ * <p>
+ * The first solution is usually 21 to 23 moves long, but it is rarely the shortest one. The solver therefore keeps searching
+ * longer phase-one sequences followed by shorter phase-two sequences, and returns as soon as a solution reaches the target
+ * length or the time budget is spent. The budget is not a hard limit: a solver always returns a solution, so it keeps
+ * searching past the budget until it finds a first one, and the budget only bounds the search for shorter ones.
+ *
+ * <p>
+ * Finding the first solution takes milliseconds rather than microseconds. Measured on a single core, over random states,
+ * it takes 5 ms at the median, 15 ms at the 90th percentile and 30 to 50 ms at the 99th, so a solver with the default
+ * target and budget takes about 7 ms on average. Most of that time goes to the phase-two searches of the phase-one
+ * sequences which lead to no phase-two solution within 12 moves: lowering that limit only
+ * makes phase one search longer sequences, and is slower overall.
+ *
+ * <p>
+ * Unless a solver is given its tables, they are generated once, on the first solve of any such solver, which takes a few
+ * seconds. A solver is not thread-safe, but any number of solvers may run concurrently.
+ */
+public final class TwoPhaseSolver {
+
+    public static final int DEFAULT_TARGET_LENGTH = 21;
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(1);
+
+    /**
+     * The largest number of moves of phase two searched after a phase-one sequence. Deeper phase-two searches cost more
+     * than trying the next phase-one sequences, which usually lead to shorter phase-two solutions.
+     */
+    private static final int MAXIMUM_PHASE_TWO_LENGTH = 12;
+
+    /**
+     * The largest number of moves of a solution searched, enough for the longest phase-one and phase-two sequences together.
+     */
+    private static final int MAXIMUM_LENGTH = 30;
+
+    private static final RubiksRotation[] ROTATIONS = RubiksRotation.values();
+    private static final int[][] PHASE_TWO_SUCCESSORS = CanonicalSequences.successorTable(TwoPhaseTables.PHASE_TWO_ROTATIONS);
+
+    private static final MemoizedSupplier<TwoPhaseTables> TABLES = memoize(() -> TwoPhaseTables.generate());
+
+    private final Supplier<TwoPhaseTables> tablesSupplier;
+    private final int targetLength;
+    private final long timeBudget;
+    private final int[] path = new int[MAXIMUM_LENGTH];
+    private final byte[] edgePermutation = new byte[EDGE_COUNT];
+    private final byte[] phaseTwoEdgePermutation = new byte[EDGE_COUNT];
+    private final byte[] movedEdgePermutation = new byte[EDGE_COUNT];
+    private TwoPhaseTables tables;
+    private RubiksCubies cubies;
+    private long deadline;
+    private List<RubiksRotation> best;
+
+    /**
+     * Creates a solver with the default target length and time budget.
+     */
+    public TwoPhaseSolver() {
+        this(DEFAULT_TARGET_LENGTH, DEFAULT_TIME_BUDGET);
+    }
+
+    /**
+     * Creates a solver.
+     *
+     * @param targetLength the length at which a solution is returned without searching for shorter ones
+     * @param timeBudget   the time after which the shortest solution found is returned
+     */
+    public TwoPhaseSolver(int targetLength, Duration timeBudget) {
+        this(TABLES, targetLength, timeBudget);
+    }
+
+    /**
+     * Creates a solver using the given tables, such as tables {@linkplain TwoPhaseTables#load(java.nio.file.Path) loaded}
+     * from table files.
+     *
+     * @param tables       the tables
+     * @param targetLength the length at which a solution is returned without searching for shorter ones
+     * @param timeBudget   the time after which the shortest solution found is returned
+     */
+    public TwoPhaseSolver(TwoPhaseTables tables, int targetLength, Duration timeBudget) {
+        this(() -> tables, targetLength, timeBudget);
+    }
+
+    private TwoPhaseSolver(Supplier<TwoPhaseTables> tablesSupplier, int targetLength, Duration timeBudget) {
+        if (targetLength < 0) throw new IllegalArgumentException("Target length must not be negative: " + targetLength);
+        if (timeBudget.isNegative()) throw new IllegalArgumentException("Time budget must not be negative: " + timeBudget);
+        this.tablesSupplier = tablesSupplier;
+        this.targetLength = targetLength;
+        this.timeBudget = timeBudget.toNanos();
+    }
+
+    /**
+     * Finds a short solution of a cube.
+     *
+     * @param cube the cube to solve
+     * @return the rotations solving the cube, at most as many as the target length unless the time budget ran out first
+     * @throws IllegalArgumentException if the cube is not solvable
+     */
+    public List<RubiksRotation> solve(RubiksCube cube) {
+        this.cubies = OptimalSolver.validCubies(cube);
+        for (var position : Edge.values()) {
+            this.edgePermutation[position.ordinal()] = (byte) this.cubies.edgeAt(position).ordinal();
+        }
+        // Getting the tables first generates them, if need be, before the time budget starts.
+        this.tables = this.tablesSupplier.get();
+        var slice = TwoPhaseTables.slice(this.edgePermutation);
+        this.deadline = System.nanoTime() + this.timeBudget;
+        this.best = null;
+        var twist = this.cubies.cornerOrientation();
+        var flip = this.cubies.edgeOrientation();
+        for (int length = phaseOneDistance(slice, twist, flip); length <= MAXIMUM_LENGTH; length++) {
+            if (this.best != null && length >= this.best.size()) break;
+            if (searchPhaseOne(0, length, slice, twist, flip, -1)) break;
+        }
+        return this.best;
+    }
+
+    private boolean searchPhaseOne(int depth, int remaining, int slice, int twist, int flip, int previous) {
+        if (remaining == 0) {
+            // A phase-one sequence ending with a rotation of phase two is a longer variant of a shorter sequence, already
+            // searched with that rotation moved to phase two.
+            if (slice != 0 || twist != 0 || flip != 0 || previous >= 0 && TwoPhaseTables.isPhaseTwoRotation(ROTATIONS[previous])) return false;
+            return startPhaseTwo(depth);
+        }
+        if (phaseOneDistance(slice, twist, flip) > remaining) return false;
+        if (this.best != null && System.nanoTime() > this.deadline) return true;
+        for (var rotation : CanonicalSequences.successors(previous)) {
+            this.path[depth] = rotation;
+            var nextSlice = this.tables.sliceMoves[slice * OptimalSolver.ROTATION_COUNT + rotation];
+            var nextTwist = CubieMoveTables.moveCornerOrientation(twist, ROTATIONS[rotation]);
+            var nextFlip = CubieMoveTables.moveEdgeOrientation(flip, ROTATIONS[rotation]);
+            if (searchPhaseOne(depth + 1, remaining - 1, nextSlice, nextTwist, nextFlip, rotation)) return true;
+        }
+        return false;
+    }
+
+    private boolean startPhaseTwo(int phaseOneLength) {
+        // Phase one only tracks orientations and the slice, so the permutations are replayed along its sequence.
+        var cornerPermutation = this.cubies.cornerPermutation();
+        var permutation = this.phaseTwoEdgePermutation;
+        var moved = this.movedEdgePermutation;
+        System.arraycopy(this.edgePermutation, 0, permutation, 0, EDGE_COUNT);
+        for (int index = 0; index < phaseOneLength; index++) {
+            cornerPermutation = CubieMoveTables.moveCornerPermutation(cornerPermutation, ROTATIONS[this.path[index]]);
+            var sources = EdgePattern.SOURCES[this.path[index]];
+            for (int position = 0; position < EDGE_COUNT; position++) {
+                moved[position] = permutation[sources[position]];
+            }
+            var swapped = permutation;
+            permutation = moved;
+            moved = swapped;
+        }
+        var layerEdges = TwoPhaseTables.edgePermutation(permutation, 0, LAYER_EDGE_COUNT);
+        var sliceEdges = TwoPhaseTables.edgePermutation(permutation, LAYER_EDGE_COUNT, SLICE_EDGE_COUNT);
+        var bound = (this.best == null ? MAXIMUM_LENGTH + 1 : this.best.size()) - 1 - phaseOneLength;
+        var previous = phaseOneLength > 0 ? this.path[phaseOneLength - 1] : -1;
+        for (int length = phaseTwoDistance(cornerPermutation, layerEdges, sliceEdges); length <= Math.min(bound, MAXIMUM_PHASE_TWO_LENGTH); length++) {
+            if (searchPhaseTwo(phaseOneLength, length, cornerPermutation, layerEdges, sliceEdges, previous)) {
+                var solution = new ArrayList<RubiksRotation>(phaseOneLength + length);
+                for (int index = 0; index < phaseOneLength + length; index++) {
+                    solution.add(ROTATIONS[this.path[index]]);
+                }
+                this.best = List.copyOf(solution);
+                return this.best.size() <= this.targetLength || System.nanoTime() > this.deadline;
+            }
+        }
+        return false;
+    }
+
+    private boolean searchPhaseTwo(int depth, int remaining, int cornerPermutation, int layerEdges, int sliceEdges, int previous) {
+        var distance = phaseTwoDistance(cornerPermutation, layerEdges, sliceEdges);
+        if (distance == 0) return remaining == 0;
+        if (distance > remaining) return false;
+        for (var rotation : PHASE_TWO_SUCCESSORS[previous + 1]) {
+            this.path[depth] = rotation;
+            var nextCornerPermutation = CubieMoveTables.moveCornerPermutation(cornerPermutation, ROTATIONS[rotation]);
+            var nextLayerEdges = this.tables.layerEdgeMoves[layerEdges * OptimalSolver.ROTATION_COUNT + rotation];
+            var nextSliceEdges = this.tables.sliceEdgeMoves[sliceEdges * OptimalSolver.ROTATION_COUNT + rotation];
+            if (searchPhaseTwo(depth + 1, remaining - 1, nextCornerPermutation, nextLayerEdges, nextSliceEdges, rotation)) return true;
+        }
+        return false;
+    }
+
+    private int phaseOneDistance(int slice, int twist, int flip) {
+        var twists = this.tables.sliceTwists.distance(slice * CORNER_ORIENTATIONS + twist);
+        var flips = this.tables.sliceFlips.distance(slice * EDGE_ORIENTATIONS + flip);
+        return Math.max(Math.max(twists, flips), this.tables.twistFlips.distance(twist * EDGE_ORIENTATIONS + flip));
+    }
+
+    private int phaseTwoDistance(int cornerPermutation, int layerEdges, int sliceEdges) {
+        var corners = this.tables.sliceCorners.distance(sliceEdges * CORNER_PERMUTATIONS + cornerPermutation);
+        return Math.max(corners, this.tables.sliceLayerEdges.distance(sliceEdges * LAYER_EDGE_PERMUTATIONS + layerEdges));
+    }
+}
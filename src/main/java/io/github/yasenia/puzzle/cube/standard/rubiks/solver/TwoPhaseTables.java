@@ -0,0 +1,305 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+import io.github.yasenia.puzzle.cube.standard.geometric.rotation.RotateDirection;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieMoveTables;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import java.util.function.Supplier;
+
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.CORNER_ORIENTATIONS;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.CORNER_PERMUTATIONS;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.EDGE_COUNT;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates.EDGE_ORIENTATIONS;
+
+/**
+ * The coordinates, move tables and pruning tables of the {@linkplain TwoPhaseSolver two-phase solver}.
+ *
+ * <p>
+ * Phase one tracks the corner twist, the edge flip and the slice coordinate, which ranks the set of positions holding the
+ * four edges of the middle layer between the up and down faces ({@code FR}, {@code FL}, {@code BL} and {@code BR}) so that
+ * they rank to 0 in the middle layer. Phase two, whose rotations keep those three coordinates at 0, tracks the corner
+ * permutation, the permutation of the eight other edges among the up and down layers, and the permutation of the four
+ * middle-layer edges among themselves.
+ *
+ * <p>
+ * The tables are either {@linkplain #generate() generated}, or {@linkplain #load(Path) loaded} from table files, so that
+ * solvers start without generating them, and solver processes of the same host share their pages. Generated move tables
+ * live on the heap, while generated distance tables live in off-heap memory, limited by {@code -XX:MaxDirectMemorySize}.
+ */
+public final class TwoPhaseTables {
+
+    static final int SLICE_EDGE_COUNT = 4;
+    static final int LAYER_EDGE_COUNT = EDGE_COUNT - SLICE_EDGE_COUNT;
+
+    /**
+     * The number of slice coordinates, C(12, 4).
+     */
+    static final int SLICES = 495;
+
+    /**
+     * The number of layer edge permutation coordinates, 8!.
+     */
+    static final int LAYER_EDGE_PERMUTATIONS = 40_320;
+
+    /**
+     * The number of slice edge permutation coordinates, 4!.
+     */
+    static final int SLICE_EDGE_PERMUTATIONS = 24;
+
+    /**
+     * The version of the generation of the tables, to be increased whenever it changes, so that table files are rebuilt.
+     */
+    static final int VERSION = 1;
+
+    private static final RubiksRotation[] ROTATIONS = RubiksRotation.values();
+
+    /**
+     * The ordinals of the rotations keeping a cube in the subgroup of phase two: the turns of the up and down faces, and the
+     * half turns of the four other faces.
+     */
+    static final int[] PHASE_TWO_ROTATIONS = Arrays.stream(ROTATIONS)
+        .filter(TwoPhaseTables::isPhaseTwoRotation)
+        .mapToInt(RubiksRotation::ordinal)
+        .toArray();
+
+    private static final int[] ALL_ROTATIONS = Arrays.stream(ROTATIONS).mapToInt(RubiksRotation::ordinal).toArray();
+
+    /**
+     * The slice coordinate after a rotation, indexed by {@code slice * 18 + rotation}.
+     */
+    final int[] sliceMoves;
+
+    /**
+     * The layer edge permutation coordinate after a rotation, indexed by {@code permutation * 18 + rotation}, for the
+     * rotations of phase two only.
+     */
+    final int[] layerEdgeMoves;
+
+    /**
+     * The slice edge permutation coordinate after a rotation, indexed by {@code permutation * 18 + rotation}, for the
+     * rotations of phase two only.
+     */
+    final int[] sliceEdgeMoves;
+
+    /**
+     * The distances of phase one, indexed by {@code slice * 2187 + cornerOrientation}.
+     */
+    final PatternDatabase sliceTwists;
+
+    /**
+     * The distances of phase one, indexed by {@code slice * 2048 + edgeOrientation}.
+     */
+    final PatternDatabase sliceFlips;
+
+    /**
+     * The distances of phase one, indexed by {@code cornerOrientation * 2048 + edgeOrientation}, which tighten the bound of
+     * the two slice tables for states whose middle-layer edges are nearly placed.
+     */
+    final PatternDatabase twistFlips;
+
+    /**
+     * The distances of phase two, indexed by {@code sliceEdgePermutation * 40320 + cornerPermutation}.
+     */
+    final PatternDatabase sliceCorners;
+
+    /**
+     * The distances of phase two, indexed by {@code sliceEdgePermutation * 40320 + layerEdgePermutation}.
+     */
+    final PatternDatabase sliceLayerEdges;
+
+    private TwoPhaseTables(Tables tables) {
+        this.sliceMoves = tables.moves("two-phase-slice-moves", SLICES, TwoPhaseTables::sliceMoves);
+        this.layerEdgeMoves = tables.moves("two-phase-layer-edge-moves", LAYER_EDGE_PERMUTATIONS,
+            () -> edgePermutationMoves(LAYER_EDGE_PERMUTATIONS, 0, LAYER_EDGE_COUNT));
+        this.sliceEdgeMoves = tables.moves("two-phase-slice-edge-moves", SLICE_EDGE_PERMUTATIONS,
+            () -> edgePermutationMoves(SLICE_EDGE_PERMUTATIONS, LAYER_EDGE_COUNT, SLICE_EDGE_COUNT));
+        this.sliceTwists = tables.distances("two-phase-slice-twists", SLICES * CORNER_ORIENTATIONS, ALL_ROTATIONS,
+            (index, rotation) -> this.sliceMoves[index / CORNER_ORIENTATIONS * OptimalSolver.ROTATION_COUNT + rotation] * CORNER_ORIENTATIONS
+                + CubieMoveTables.moveCornerOrientation(index % CORNER_ORIENTATIONS, ROTATIONS[rotation]));
+        this.sliceFlips = tables.distances("two-phase-slice-flips", SLICES * EDGE_ORIENTATIONS, ALL_ROTATIONS,
+            (index, rotation) -> this.sliceMoves[index / EDGE_ORIENTATIONS * OptimalSolver.ROTATION_COUNT + rotation] * EDGE_ORIENTATIONS
+                + CubieMoveTables.moveEdgeOrientation(index % EDGE_ORIENTATIONS, ROTATIONS[rotation]));
+        this.twistFlips = tables.distances("two-phase-twist-flips", CORNER_ORIENTATIONS * EDGE_ORIENTATIONS, ALL_ROTATIONS,
+            (index, rotation) -> CubieMoveTables.moveCornerOrientation(index / EDGE_ORIENTATIONS, ROTATIONS[rotation]) * EDGE_ORIENTATIONS
+                + CubieMoveTables.moveEdgeOrientation(index % EDGE_ORIENTATIONS, ROTATIONS[rotation]));
+        this.sliceCorners = tables.distances("two-phase-slice-corners", SLICE_EDGE_PERMUTATIONS * CORNER_PERMUTATIONS, PHASE_TWO_ROTATIONS,
+            (index, rotation) -> this.sliceEdgeMoves[index / CORNER_PERMUTATIONS * OptimalSolver.ROTATION_COUNT + rotation] * CORNER_PERMUTATIONS
+                + CubieMoveTables.moveCornerPermutation(index % CORNER_PERMUTATIONS, ROTATIONS[rotation]));
+        this.sliceLayerEdges = tables.distances("two-phase-slice-layer-edges", SLICE_EDGE_PERMUTATIONS * LAYER_EDGE_PERMUTATIONS, PHASE_TWO_ROTATIONS,
+            (index, rotation) -> this.sliceEdgeMoves[index / LAYER_EDGE_PERMUTATIONS * OptimalSolver.ROTATION_COUNT + rotation] * LAYER_EDGE_PERMUTATIONS
+                + this.layerEdgeMoves[index % LAYER_EDGE_PERMUTATIONS * OptimalSolver.ROTATION_COUNT + rotation]);
+    }
+
+    /**
+     * Generates the tables, which takes a few seconds: the move tables on the heap, and the distance tables off-heap.
+     *
+     * @return the generated tables
+     */
+    public static TwoPhaseTables generate() {
+        return new TwoPhaseTables(new Tables() {
+            @Override
+            public int[] moves(String name, int coordinates, Supplier<int[]> generator) {
+                return generator.get();
+            }
+
+            @Override
+            public PatternDatabase distances(String name, int size, int[] rotations, IntBinaryOperator move) {
+                return PatternDatabase.generate(size, 0, move, rotations, PatternDatabase.MAXIMUM_DEPTH);
+            }
+        });
+    }
+
+    /**
+     * Loads the tables from table files in a directory, generating and writing the missing or stale ones first.
+     *
+     * <p>
+     * The pruning tables are used as memory mappings of their files, while the small and hot move tables are copied to the
+     * heap.
+     *
+     * @param directory the directory of the table files, created if need be
+     * @return the loaded tables
+     * @throws java.io.UncheckedIOException if a table file can neither be read nor written
+     */
+    public static TwoPhaseTables load(Path directory) {
+        return new TwoPhaseTables(new Tables() {
+            @Override
+            public int[] moves(String name, int coordinates, Supplier<int[]> generator) {
+                var length = coordinates * OptimalSolver.ROTATION_COUNT;
+                var table = TableFile.map(directory.resolve(name + ".table"), TableFile.fingerprint(name, VERSION), (long) length * Integer.BYTES, () -> {
+                    var buffer = ByteBuffer.allocate(length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                    buffer.asIntBuffer().put(generator.get());
+                    return TableMemory.wrap(buffer);
+                });
+                var moves = new int[length];
+                table.segment(0).asIntBuffer().get(moves);
+                return moves;
+            }
+
+            @Override
+            public PatternDatabase distances(String name, int size, int[] rotations, IntBinaryOperator move) {
+                return PatternDatabase.load(directory.resolve(name + ".table"), TableFile.fingerprint(name, VERSION), size,
+                    () -> PatternDatabase.generate(size, 0, move, rotations, PatternDatabase.MAXIMUM_DEPTH));
+            }
+        });
+    }
+
+    /**
+     * Returns the slice coordinate of an edge permutation.
+     *
+     * @param permutation the edge occupying each position
+     * @return the rank of the set of positions holding middle-layer edges, 0 if they are all in the middle layer
+     */
+    static int slice(byte[] permutation) {
+        // Positions are mirrored, so that the middle-layer positions are the lowest ones and rank to 0 in the combinatorial
+        // number system.
+        var rank = 0;
+        var chosen = 0;
+        for (int mirrored = 0; mirrored < EDGE_COUNT; mirrored++) {
+            if (permutation[EDGE_COUNT - 1 - mirrored] < LAYER_EDGE_COUNT) continue;
+            chosen++;
+            rank += binomial(mirrored, chosen);
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the permutation coordinate of the edges of a range of positions, which must hold the edges of the same range.
+     *
+     * @param permutation the edge occupying each position
+     * @param first       the first position of the range
+     * @param length      the length of the range
+     * @return the rank of the permutation of the range
+     */
+    static int edgePermutation(byte[] permutation, int first, int length) {
+        var range = new byte[length];
+        for (int index = 0; index < length; index++) {
+            range[index] = (byte) (permutation[first + index] - first);
+        }
+        return CubieCoordinates.rankPermutation(range);
+    }
+
+    static boolean isPhaseTwoRotation(RubiksRotation rotation) {
+        var face = rotation.orientation();
+        return face == SpatialOrientation.UP || face == SpatialOrientation.DOWN || rotation.direction() == RotateDirection.DOUBLE;
+    }
+
+    private static int[] sliceMoves() {
+        var table = new int[SLICES * OptimalSolver.ROTATION_COUNT];
+        var permutation = new byte[EDGE_COUNT];
+        var moved = new byte[EDGE_COUNT];
+        for (int slice = 0; slice < SLICES; slice++) {
+            // Unranks the slice in the combinatorial number system, filling the chosen positions with middle-layer edges.
+            var rank = slice;
+            var chosen = SLICE_EDGE_COUNT;
+            var sliceEdge = EDGE_COUNT;
+            var layerEdge = LAYER_EDGE_COUNT;
+            for (int mirrored = EDGE_COUNT - 1; mirrored >= 0; mirrored--) {
+                if (chosen > 0 && binomial(mirrored, chosen) <= rank) {
+                    rank -= binomial(mirrored, chosen--);
+                    permutation[EDGE_COUNT - 1 - mirrored] = (byte) --sliceEdge;
+                } else {
+                    permutation[EDGE_COUNT - 1 - mirrored] = (byte) --layerEdge;
+                }
+            }
+            for (var rotation : ROTATIONS) {
+                move(permutation, rotation.ordinal(), moved);
+                table[slice * OptimalSolver.ROTATION_COUNT + rotation.ordinal()] = slice(moved);
+            }
+        }
+        return table;
+    }
+
+    private static int[] edgePermutationMoves(int coordinates, int first, int length) {
+        var table = new int[coordinates * OptimalSolver.ROTATION_COUNT];
+        var range = new byte[length];
+        var permutation = new byte[EDGE_COUNT];
+        var moved = new byte[EDGE_COUNT];
+        for (int coordinate = 0; coordinate < coordinates; coordinate++) {
+            CubieCoordinates.unrankPermutation(coordinate, range);
+            for (int position = 0; position < EDGE_COUNT; position++) {
+                permutation[position] = (byte) position;
+            }
+            for (int index = 0; index < length; index++) {
+                permutation[first + index] = (byte) (first + range[index]);
+            }
+            for (var rotation : PHASE_TWO_ROTATIONS) {
+                move(permutation, rotation, moved);
+                table[coordinate * OptimalSolver.ROTATION_COUNT + rotation] = edgePermutation(moved, first, length);
+            }
+        }
+        return table;
+    }
+
+    private static void move(byte[] permutation, int rotation, byte[] moved) {
+        var sources = EdgePattern.SOURCES[rotation];
+        for (int position = 0; position < EDGE_COUNT; position++) {
+            moved[position] = permutation[sources[position]];
+        }
+    }
+
+    private static int binomial(int n, int k) {
+        if (k > n) return 0;
+        var result = 1;
+        for (int index = 0; index < k; index++) {
+            result = result * (n - index) / (index + 1);
+        }
+        return result;
+    }
+
+    /**
+     * The source of the tables, which either generates them or loads them from table files.
+     */
+    private interface Tables {
+
+        int[] moves(String name, int coordinates, Supplier<int[]> generator);
+
+        PatternDatabase distances(String name, int size, int[] rotations, IntBinaryOperator move);
+    }
+}
@@ -1,14 +1,23 @@
 package io.github.yasenia.support.functional;
 
-import java.util.Map;
-import java.util.WeakHashMap;
+import io.github.yasenia.support.functional.cache.Cache;
+import io.github.yasenia.support.functional.cache.CacheSpec;
+import io.github.yasenia.support.functional.cache.CacheStats;
+import io.github.yasenia.support.functional.cache.LongKeyCache;
+import io.github.yasenia.support.functional.cache.StatsCounter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
-import static java.util.Collections.synchronizedMap;
-
 /**
  * Utility class for memoization, a technique used for storing the results of expensive function calls
  * and returning the cached result when the same inputs occur again.
@@ -16,14 +25,26 @@ import static java.util.Collections.synchronizedMap;
  * <p>This class provides static utility methods to memoize {@link Supplier}, {@link Function}, and {@link Predicate} instances.
  * Memoization is particularly useful when working with pure functions that always return the same result for the same input.
  *
- * <p>This implementation is thread-safe.
+ * <p>This implementation is thread-safe, and never blocks on a monitor, so that loads do not pin virtual threads to their carriers.
  *
  * <p><strong>Important:</strong> This implementation does not cache {@code null} values. Callers should be
  * aware of this to avoid cache penetration issues. When a function returns a {@code null}, the function will be invoked again
  * every time it is called with the same input.
  *
- * <p><strong>Note:</strong> The caching mechanism uses a {@link WeakHashMap}, so the cached values are held weakly
- * and may be garbage collected when they are not needed and memory is limited.
+ * <p><strong>Note:</strong> Memoized functions and predicates cache their results in a bounded concurrent {@link Cache}.
+ * Unless a {@link CacheSpec} is given, they keep at most {@link CacheSpec#DEFAULT_MAXIMUM_SIZE} entries, evicted by
+ * {@link io.github.yasenia.support.functional.cache.EvictionPolicy#TINY_LFU}. A {@code null} input is never cached.
+ * Functions of primitive {@code int} and {@code long} inputs are cached in a {@link LongKeyCache} instead, which never
+ * boxes their inputs. They are memoized by {@code memoizeInt} and {@code memoizeLong}, whose distinct names keep implicitly
+ * typed lambdas from being ambiguous between the overloads of {@code memoize}.
+ *
+ * <p>Every memoized instance is {@link Memoized}, exposing hit, miss, load and eviction counters which can also be
+ * published over JMX, in order to size caches from their actual hit rates. Memoized suppliers, which are cheap enough to be
+ * created per object, only record them when asked to by {@link #memoize(Supplier, boolean)}.
+ *
+ * <p>The {@code memoizeAsync} variants return {@link CompletableFuture}s instead of blocking, and run at most one load at a
+ * time per input, whose result is shared with every concurrent caller. A load which fails or completes with {@code null}
+ * is not cached, so the next call runs it again.
  */
 public class Memoization {
 
@@ -36,51 +57,65 @@ public class Memoization {
     /**
      * Memoizes a {@link Supplier}. If a value has been computed, it will be returned in subsequent calls.
      *
+     * <p>The memoized supplier records no statistics, so that it costs no more than a volatile read once its value has been
+     * computed, and can be created for short-lived objects: its {@link MemoizedSupplier#stats()} only report its size.
+     *
      * @param supplier The supplier to be memoized.
      * @param <T>      The type of results supplied by this supplier.
      * @return A memoized supplier. <strong>Note:</strong> {@code null} values are not cached.
+     * @see #memoize(Supplier, boolean)
      */
-    public static <T> Supplier<T> memoize(Supplier<T> supplier) {
-        return new Supplier<>() {
-            private final AtomicReference<T> value = new AtomicReference<>();
+    public static <T> MemoizedSupplier<T> memoize(Supplier<T> supplier) {
+        return memoize(supplier, false);
+    }
 
-            @Override
-            public T get() {
-                var result = value.get();
-                if (result == null) {
-                    synchronized (value) {
-                        result = value.get();
-                        if (result == null) {
-                            result = supplier.get();
-                            value.set(result);
-                        }
-                    }
-                }
-                return result;
-            }
-        };
+    /**
+     * Memoizes a {@link Supplier}, optionally recording the statistics of its calls.
+     *
+     * @param supplier    The supplier to be memoized.
+     * @param recordStats Whether to count hits, misses and loads, which costs an increment of a striped counter per call.
+     * @param <T>         The type of results supplied by this supplier.
+     * @return A memoized supplier. <strong>Note:</strong> {@code null} values are not cached.
+     */
+    public static <T> MemoizedSupplier<T> memoize(Supplier<T> supplier, boolean recordStats) {
+        return new LazySupplier<>(supplier, recordStats ? new StatsCounter() : null);
     }
 
     /**
      * Memoizes a {@link Function}. If a value has been computed for a specific input, it will be returned in subsequent calls with the same input.
      *
-     * <p>This method returns a thread-safe memoized function.
+     * <p>This method returns a thread-safe memoized function, caching its results as specified by {@link CacheSpec#defaults()}.
      *
-     * <p><strong>Note:</strong> The caching mechanism uses a {@link WeakHashMap}, so the cached values are held weakly
-     * and may be garbage collected when they are not needed and memory is limited.
+     * @param function The function to be memoized.
+     * @param <T>      The type of the input to the function.
+     * @param <R>      The type of the result of the function.
+     * @return A memoized function. <strong>Important:</strong> {@code null} values are not cached.
+     */
+    public static <T, R> MemoizedFunction<T, R> memoize(Function<T, R> function) {
+        return memoize(function, CacheSpec.defaults());
+    }
+
+    /**
+     * Memoizes a {@link Function}, caching its results in a cache created from the given specification.
      *
      * @param function The function to be memoized.
+     * @param spec     The specification of the cache bounds and eviction policy.
      * @param <T>      The type of the input to the function.
      * @param <R>      The type of the result of the function.
      * @return A memoized function. <strong>Important:</strong> {@code null} values are not cached.
      */
-    public static <T, R> Function<T, R> memoize(Function<T, R> function) {
-        return new Function<>() {
-            private final Map<T, R> value = synchronizedMap(new WeakHashMap<>());
+    public static <T, R> MemoizedFunction<T, R> memoize(Function<T, R> function, CacheSpec<? super T, ? super R> spec) {
+        return new MemoizedFunction<>() {
+            private final Cache<T, R> cache = spec.newCache();
 
             @Override
             public R apply(T t) {
-                return value.computeIfAbsent(t, function);
+                return t == null ? function.apply(null) : cache.get(t, function);
+            }
+
+            @Override
+            public CacheStats stats() {
+                return cache.stats();
             }
         };
     }
@@ -88,23 +123,337 @@ public class Memoization {
     /**
      * Memoizes a {@link Predicate}. If a value has been computed for a specific input, it will be returned in subsequent calls with the same input.
      *
-     * <p>This method returns a thread-safe memoized predicate.
+     * <p>This method returns a thread-safe memoized predicate, caching its results as specified by {@link CacheSpec#defaults()}.
      *
-     * <p><strong>Note:</strong> The caching mechanism uses a {@link WeakHashMap}, so the cached values are held weakly
-     * and may be garbage collected when they are not needed and memory is limited.
+     * @param predicate The predicate to be memoized.
+     * @param <T>       The type of the input to the predicate.
+     * @return A memoized predicate.
+     */
+    public static <T> MemoizedPredicate<T> memoize(Predicate<T> predicate) {
+        return memoize(predicate, CacheSpec.defaults());
+    }
+
+    /**
+     * Memoizes a {@link Predicate}, caching its results in a cache created from the given specification.
      *
      * @param predicate The predicate to be memoized.
+     * @param spec      The specification of the cache bounds and eviction policy.
      * @param <T>       The type of the input to the predicate.
-     * @return A memoized predicate. <strong>Important:</strong> {@code null} values are not cached.
+     * @return A memoized predicate.
      */
-    public static <T> Predicate<T> memoize(Predicate<T> predicate) {
-        return new Predicate<>() {
-            private final Map<T, Boolean> value = synchronizedMap(new WeakHashMap<>());
+    public static <T> MemoizedPredicate<T> memoize(Predicate<T> predicate, CacheSpec<? super T, ? super Boolean> spec) {
+        return new MemoizedPredicate<>() {
+            private final Cache<T, Boolean> cache = spec.newCache();
 
             @Override
             public boolean test(T t) {
-                return value.computeIfAbsent(t, predicate::test);
+                return t == null ? predicate.test(null) : cache.get(t, predicate::test);
+            }
+
+            @Override
+            public CacheStats stats() {
+                return cache.stats();
+            }
+        };
+    }
+
+    /**
+     * Memoizes an {@link IntFunction}, caching at most {@link CacheSpec#DEFAULT_MAXIMUM_SIZE} results.
+     *
+     * @param function The function to be memoized.
+     * @param <R>      The type of the result of the function.
+     * @return A memoized function. <strong>Important:</strong> {@code null} values are not cached.
+     * @see #memoizeInt(IntFunction, long)
+     */
+    public static <R> MemoizedIntFunction<R> memoizeInt(IntFunction<R> function) {
+        return memoizeInt(function, CacheSpec.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Memoizes an {@link IntFunction}, caching its results in a {@link LongKeyCache}, so that inputs are never boxed.
+     *
+     * @param function    The function to be memoized.
+     * @param maximumSize The maximum number of cached results, rounded down to a power of two.
+     * @param <R>         The type of the result of the function.
+     * @return A memoized function. <strong>Important:</strong> {@code null} values are not cached.
+     */
+    public static <R> MemoizedIntFunction<R> memoizeInt(IntFunction<R> function, long maximumSize) {
+        return new MemoizedIntFunction<>() {
+            private final LongKeyCache<R> cache = new LongKeyCache<>(maximumSize);
+            private final LongFunction<R> loader = key -> function.apply((int) key);
+
+            @Override
+            public R apply(int value) {
+                return cache.get(value, loader);
+            }
+
+            @Override
+            public CacheStats stats() {
+                return cache.stats();
+            }
+        };
+    }
+
+    /**
+     * Memoizes a {@link LongFunction}, caching at most {@link CacheSpec#DEFAULT_MAXIMUM_SIZE} results.
+     *
+     * @param function The function to be memoized.
+     * @param <R>      The type of the result of the function.
+     * @return A memoized function. <strong>Important:</strong> {@code null} values are not cached.
+     * @see #memoizeLong(LongFunction, long)
+     */
+    public static <R> MemoizedLongFunction<R> memoizeLong(LongFunction<R> function) {
+        return memoizeLong(function, CacheSpec.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Memoizes a {@link LongFunction}, caching its results in a {@link LongKeyCache}, so that inputs are never boxed.
+     *
+     * @param function    The function to be memoized.
+     * @param maximumSize The maximum number of cached results, rounded down to a power of two.
+     * @param <R>         The type of the result of the function.
+     * @return A memoized function. <strong>Important:</strong> {@code null} values are not cached.
+     */
+    public static <R> MemoizedLongFunction<R> memoizeLong(LongFunction<R> function, long maximumSize) {
+        return new MemoizedLongFunction<>() {
+            private final LongKeyCache<R> cache = new LongKeyCache<>(maximumSize);
+
+            @Override
+            public R apply(long value) {
+                return cache.get(value, function);
+            }
+
+            @Override
+            public CacheStats stats() {
+                return cache.stats();
+            }
+        };
+    }
+
+    /**
+     * Memoizes a {@link Supplier} asynchronously, running its single load on a new virtual thread.
+     *
+     * @param supplier The supplier to be memoized.
+     * @param <T>      The type of results supplied by this supplier.
+     * @return A memoized supplier of futures, which all complete with the same value.
+     * @see #memoizeAsync(Supplier, Executor)
+     */
+    public static <T> MemoizedSupplier<CompletableFuture<T>> memoizeAsync(Supplier<T> supplier) {
+        return memoizeAsync(supplier, Thread::startVirtualThread);
+    }
+
+    /**
+     * Memoizes a {@link Supplier} asynchronously. The first call submits the load to the executor, and every call made before
+     * it completes returns the same pending future, so that the supplier runs at most once at a time.
+     *
+     * @param supplier The supplier to be memoized.
+     * @param executor The executor running the load.
+     * @param <T>      The type of results supplied by this supplier.
+     * @return A memoized supplier of futures. <strong>Note:</strong> failures and {@code null} values are not cached.
+     */
+    public static <T> MemoizedSupplier<CompletableFuture<T>> memoizeAsync(Supplier<T> supplier, Executor executor) {
+        return new MemoizedSupplier<>() {
+            private final AtomicReference<CompletableFuture<T>> value = new AtomicReference<>();
+            private final StatsCounter statsCounter = new StatsCounter();
+
+            @Override
+            public CompletableFuture<T> get() {
+                var result = value.get();
+                if (result != null) {
+                    statsCounter.recordHit();
+                    return result;
+                }
+                var pending = new CompletableFuture<T>();
+                if (!value.compareAndSet(null, pending)) return get();
+                statsCounter.recordMiss();
+                var start = System.nanoTime();
+                pending.whenComplete((loaded, failure) -> {
+                    var loadTime = System.nanoTime() - start;
+                    if (loaded != null) {
+                        statsCounter.recordLoadSuccess(loadTime);
+                    } else {
+                        statsCounter.recordLoadFailure(loadTime);
+                        value.compareAndSet(pending, null);
+                    }
+                });
+                load(pending, supplier, executor);
+                return pending;
+            }
+
+            @Override
+            public CacheStats stats() {
+                var result = value.get();
+                return statsCounter.snapshot(result != null && result.isDone() && !result.isCompletedExceptionally() ? 1 : 0);
             }
         };
     }
+
+    /**
+     * Memoizes a {@link Function} asynchronously, running its loads on new virtual threads.
+     *
+     * <p>This method returns a thread-safe memoized function, caching its futures as specified by {@link CacheSpec#defaults()}.
+     *
+     * @param function The function to be memoized.
+     * @param <T>      The type of the input to the function.
+     * @param <R>      The type of the result of the function.
+     * @return A memoized function returning futures.
+     * @see #memoizeAsync(Function, CacheSpec, Executor)
+     */
+    public static <T, R> MemoizedFunction<T, CompletableFuture<R>> memoizeAsync(Function<T, R> function) {
+        return memoizeAsync(function, CacheSpec.defaults(), Thread::startVirtualThread);
+    }
+
+    /**
+     * Memoizes a {@link Function} asynchronously, caching its futures as specified by {@link CacheSpec#defaults()}.
+     *
+     * @param function The function to be memoized.
+     * @param executor The executor running the loads.
+     * @param <T>      The type of the input to the function.
+     * @param <R>      The type of the result of the function.
+     * @return A memoized function returning futures.
+     * @see #memoizeAsync(Function, CacheSpec, Executor)
+     */
+    public static <T, R> MemoizedFunction<T, CompletableFuture<R>> memoizeAsync(Function<T, R> function, Executor executor) {
+        return memoizeAsync(function, CacheSpec.defaults(), executor);
+    }
+
+    /**
+     * Memoizes a {@link Function} asynchronously, caching its futures in a cache created from the given specification.
+     *
+     * <p>A miss caches a pending future before submitting the load to the executor, so that every call made with the same input
+     * before the load completes shares that future, and the function runs at most once at a time per input. The futures of
+     * failed and {@code null} loads are discarded once they complete, and the load times reported by the statistics are those
+     * of submitting the loads. A {@code null} input is never cached.
+     *
+     * @param function The function to be memoized.
+     * @param spec     The specification of the cache bounds and eviction policy.
+     * @param executor The executor running the loads.
+     * @param <T>      The type of the input to the function.
+     * @param <R>      The type of the result of the function.
+     * @return A memoized function returning futures. <strong>Important:</strong> failures and {@code null} values are not cached.
+     */
+    public static <T, R> MemoizedFunction<T, CompletableFuture<R>> memoizeAsync(
+        Function<T, R> function,
+        CacheSpec<? super T, ? super CompletableFuture<R>> spec,
+        Executor executor
+    ) {
+        return new MemoizedFunction<>() {
+            private final Cache<T, CompletableFuture<R>> cache = spec.newCache();
+
+            @Override
+            public CompletableFuture<R> apply(T t) {
+                if (t == null) return CompletableFuture.supplyAsync(() -> function.apply(null), executor);
+                var pending = new CompletableFuture<R>();
+                var result = cache.get(t, key -> pending);
+                if (result == pending) {
+                    pending.whenComplete((loaded, failure) -> {
+                        if (loaded == null) cache.remove(t, pending);
+                    });
+                    load(pending, () -> function.apply(t), executor);
+                }
+                return result;
+            }
+
+            @Override
+            public CacheStats stats() {
+                return cache.stats();
+            }
+        };
+    }
+
+    /**
+     * The memoized supplier, which allocates its lock only once a call finds no value, and releases it once the value is cached.
+     */
+    private static final class LazySupplier<T> implements MemoizedSupplier<T> {
+
+        private static final VarHandle LOCK;
+
+        static {
+            try {
+                LOCK = MethodHandles.lookup().findVarHandle(LazySupplier.class, "lock", ReentrantLock.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Supplier<T> supplier;
+        private final StatsCounter statsCounter;
+        private volatile T value;
+        private volatile ReentrantLock lock;
+
+        private LazySupplier(Supplier<T> supplier, StatsCounter statsCounter) {
+            this.supplier = supplier;
+            this.statsCounter = statsCounter;
+        }
+
+        @Override
+        public T get() {
+            var result = this.value;
+            if (result == null) {
+                var lock = lock();
+                lock.lock();
+                try {
+                    result = this.value;
+                    if (result == null) {
+                        if (this.statsCounter != null) this.statsCounter.recordMiss();
+                        result = load();
+                        this.value = result;
+                        // The value is published before the lock is released, so a caller creating a new lock will find it.
+                        if (result != null) this.lock = null;
+                        return result;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            if (this.statsCounter != null) this.statsCounter.recordHit();
+            return result;
+        }
+
+        @Override
+        public CacheStats stats() {
+            var size = this.value == null ? 0 : 1;
+            return this.statsCounter == null ? new CacheStats(0, 0, 0, 0, 0, 0, size) : this.statsCounter.snapshot(size);
+        }
+
+        private ReentrantLock lock() {
+            var lock = this.lock;
+            if (lock != null) return lock;
+            var created = new ReentrantLock();
+            var witness = (ReentrantLock) LOCK.compareAndExchange(this, null, created);
+            return witness == null ? created : witness;
+        }
+
+        private T load() {
+            var start = this.statsCounter == null ? 0 : System.nanoTime();
+            T result = null;
+            try {
+                result = this.supplier.get();
+                return result;
+            } finally {
+                if (this.statsCounter != null) {
+                    var loadTime = System.nanoTime() - start;
+                    if (result != null) {
+                        this.statsCounter.recordLoadSuccess(loadTime);
+                    } else {
+                        this.statsCounter.recordLoadFailure(loadTime);
+                    }
+                }
+            }
+        }
+    }
+
+    private static <T> void load(CompletableFuture<T> future, Supplier<T> supplier, Executor executor) {
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(supplier.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package io.github.yasenia.support.functional;
+
+import io.github.yasenia.support.functional.cache.CacheMonitoring;
+import io.github.yasenia.support.functional.cache.CacheStats;
+
+import javax.management.ObjectName;
+
+/**
+ * A memoized {@link java.util.function.Supplier}, {@link java.util.function.Function} or {@link java.util.function.Predicate},
+ * created by {@link Memoization}, which exposes the statistics of its cache.
+ */
+public interface Memoized {
+
+    /**
+     * Returns a snapshot of the hit, miss, load and eviction counters of the cache, along with its current size.
+     *
+     * @return the statistics of the cache.
+     */
+    CacheStats stats();
+
+    /**
+     * Registers the statistics of the cache in the platform MBean server, as described by {@link CacheMonitoring}.
+     *
+     * @param name the name of the cache, unique among registered caches.
+     * @return the object name the statistics have been registered under.
+     * @throws IllegalArgumentException if a cache is already registered under the same name.
+     */
+    default ObjectName registerMetrics(String name) {
+        return CacheMonitoring.register(name, this::stats);
+    }
+}
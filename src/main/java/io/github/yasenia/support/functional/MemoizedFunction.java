@@ -0,0 +1,12 @@
+package io.github.yasenia.support.functional;
+
+import java.util.function.Function;
+
+/**
+ * A memoized {@link Function}, created by {@link Memoization#memoize(Function)}.
+ *
+ * @param <T> the type of the input to the function.
+ * @param <R> the type of the result of the function.
+ */
+public interface MemoizedFunction<T, R> extends Function<T, R>, Memoized {
+}
@@ -0,0 +1,11 @@
+package io.github.yasenia.support.functional;
+
+import java.util.function.IntFunction;
+
+/**
+ * A memoized {@link IntFunction}, created by {@link Memoization#memoizeInt(IntFunction)}.
+ *
+ * @param <R> the type of the result of the function.
+ */
+public interface MemoizedIntFunction<R> extends IntFunction<R>, Memoized {
+}
@@ -0,0 +1,11 @@
+package io.github.yasenia.support.functional;
+
+import java.util.function.LongFunction;
+
+/**
+ * A memoized {@link LongFunction}, created by {@link Memoization#memoizeLong(LongFunction)}.
+ *
+ * @param <R> the type of the result of the function.
+ */
+public interface MemoizedLongFunction<R> extends LongFunction<R>, Memoized {
+}
@@ -0,0 +1,11 @@
+package io.github.yasenia.support.functional;
+
+import java.util.function.Predicate;
+
+/**
+ * A memoized {@link Predicate}, created by {@link Memoization#memoize(Predicate)}.
+ *
+ * @param <T> the type of the input to the predicate.
+ */
+public interface MemoizedPredicate<T> extends Predicate<T>, Memoized {
+}
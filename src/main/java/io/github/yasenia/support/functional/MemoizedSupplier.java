@@ -0,0 +1,11 @@
+package io.github.yasenia.support.functional;
+
+import java.util.function.Supplier;
+
+/**
+ * A memoized {@link Supplier}, created by {@link Memoization#memoize(Supplier)}.
+ *
+ * @param <T> the type of results supplied by this supplier.
+ */
+public interface MemoizedSupplier<T> extends Supplier<T>, Memoized {
+}
@@ -0,0 +1,245 @@
+package io.github.yasenia.support.functional.cache;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+import java.util.stream.IntStream;
+
+/**
+ * The {@link Cache} implementation created from a {@link CacheSpec}.
+ *
+ * <p>Entries live in a single {@link ConcurrentHashMap}, so lookups never lock. The eviction bookkeeping is split into
+ * power-of-two segments selected by key hash, each guarded by its own {@link ReentrantLock} and bounded by its share of
+ * the maximum weight. The shares add up to the maximum weight, so the cache never exceeds it, but a segment evicts once
+ * its own share is full, even while other segments still have room. Writes lock their segment, while reads only try to, and skip recording the access when it is busy.
+ * Statistics are always recorded, in striped counters which never lock.
+ */
+final class BoundedCache<K, V> implements Cache<K, V> {
+
+    private static final int MAXIMUM_SEGMENTS = 1 << 16;
+    private static final long MINIMUM_SEGMENT_WEIGHT = 64;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final List<Segment> segments;
+    private final int segmentMask;
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+    private final boolean expiring;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+    private final StatsCounter statsCounter = new StatsCounter();
+
+    BoundedCache(CacheSpec<? super K, ? super V> spec) {
+        var segmentCount = segmentCount(spec);
+        // The policy of an unbounded cache never selects a victim, so the cheapest bookkeeping is used instead.
+        var policy = spec.isBounded() ? spec.evictionPolicy() : EvictionPolicy.LRU;
+        this.segments = IntStream.range(0, segmentCount).mapToObj(index -> new Segment(policy, segmentWeight(spec, segmentCount, index))).toList();
+        this.segmentMask = segmentCount - 1;
+        this.weigher = spec.weigher();
+        this.expiring = spec.isExpiring();
+        this.expireAfterWriteNanos = spec.expireAfterWriteNanos();
+        this.ticker = spec.ticker();
+    }
+
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        var node = this.data.get(key);
+        if (node != null && !isExpired(node, now())) {
+            this.statsCounter.recordHit();
+            segmentFor(key).recordAccess(node);
+            return node.value;
+        }
+        this.statsCounter.recordMiss();
+        var value = load(key, loader);
+        if (value == null) return null;
+        return segmentFor(key).putIfAbsent(key, value);
+    }
+
+    @Override
+    public V getIfPresent(K key) {
+        var node = this.data.get(key);
+        if (node == null || isExpired(node, now())) {
+            this.statsCounter.recordMiss();
+            return null;
+        }
+        this.statsCounter.recordHit();
+        segmentFor(key).recordAccess(node);
+        return node.value;
+    }
+
+    @Override
+    public void invalidate(K key) {
+        segmentFor(key).invalidate(key);
+    }
+
+    @Override
+    public boolean remove(K key, V value) {
+        return segmentFor(key).remove(key, value);
+    }
+
+    @Override
+    public void invalidateAll() {
+        this.data.keySet().forEach(this::invalidate);
+    }
+
+    @Override
+    public long size() {
+        return this.data.size();
+    }
+
+    @Override
+    public CacheStats stats() {
+        return this.statsCounter.snapshot(size());
+    }
+
+    private V load(K key, Function<? super K, ? extends V> loader) {
+        var start = this.ticker.getAsLong();
+        V value = null;
+        try {
+            value = loader.apply(key);
+            return value;
+        } finally {
+            var loadTime = this.ticker.getAsLong() - start;
+            if (value != null) {
+                this.statsCounter.recordLoadSuccess(loadTime);
+            } else {
+                this.statsCounter.recordLoadFailure(loadTime);
+            }
+        }
+    }
+
+    private static int segmentCount(CacheSpec<?, ?> spec) {
+        var segmentCount = Integer.highestOneBit(Math.min(spec.concurrencyLevel(), MAXIMUM_SEGMENTS) * 2 - 1);
+        while (segmentCount > 1 && spec.maximumWeight() / segmentCount < MINIMUM_SEGMENT_WEIGHT) {
+            segmentCount >>= 1;
+        }
+        return segmentCount;
+    }
+
+    private static long segmentWeight(CacheSpec<?, ?> spec, int segmentCount, int segment) {
+        if (!spec.isBounded()) return spec.maximumWeight();
+        // The remainder of the division goes to the first segments, so that the shares add up to exactly the maximum weight.
+        var share = spec.maximumWeight() / segmentCount;
+        return segment < spec.maximumWeight() % segmentCount ? share + 1 : share;
+    }
+
+    private Segment segmentFor(K key) {
+        var hash = key.hashCode();
+        return this.segments.get((hash ^ (hash >>> 16)) & this.segmentMask);
+    }
+
+    private long now() {
+        return this.expiring ? this.ticker.getAsLong() : 0;
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return this.expiring && now - node.writeTime >= this.expireAfterWriteNanos;
+    }
+
+    private final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Eviction<K, V> eviction;
+        private final long maximumWeight;
+        private final ArrayDeque<Node<K, V>> writeOrder = new ArrayDeque<>();
+        private long weight;
+
+        private Segment(EvictionPolicy policy, long maximumWeight) {
+            this.eviction = Eviction.of(policy, maximumWeight);
+            this.maximumWeight = maximumWeight;
+        }
+
+        private void recordAccess(Node<K, V> node) {
+            if (!this.lock.tryLock()) return;
+            try {
+                if (node.alive) this.eviction.onAccess(node);
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private V putIfAbsent(K key, V value) {
+            var entryWeight = weigher.applyAsInt(key, value);
+            if (entryWeight < 0) throw new IllegalArgumentException("Weight must not be negative: " + entryWeight);
+            this.lock.lock();
+            try {
+                var now = now();
+                var existing = data.get(key);
+                if (existing != null && !isExpired(existing, now)) {
+                    this.eviction.onAccess(existing);
+                    return existing.value;
+                }
+                if (existing != null) {
+                    remove(existing);
+                    statsCounter.recordEviction();
+                }
+                expireEntries(now);
+                // Room is made before inserting, so that a new entry is never its own victim, unless it outweighs the whole segment.
+                evictEntries(this.maximumWeight - entryWeight);
+                var node = new Node<>(key, value, entryWeight, now);
+                data.put(key, node);
+                this.eviction.onInsert(node);
+                this.weight += entryWeight;
+                if (expiring) this.writeOrder.addLast(node);
+                evictEntries(this.maximumWeight);
+                return value;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private void invalidate(K key) {
+            this.lock.lock();
+            try {
+                var node = data.get(key);
+                if (node != null) remove(node);
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private boolean remove(K key, V value) {
+            this.lock.lock();
+            try {
+                var node = data.get(key);
+                if (node == null || !node.value.equals(value)) return false;
+                remove(node);
+                return true;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private void expireEntries(long now) {
+            // Entries expire in write order, so only the head of the queue needs to be checked. Entries removed for other
+            // reasons stay in the queue until they reach its head.
+            for (var head = this.writeOrder.peekFirst(); head != null; head = this.writeOrder.peekFirst()) {
+                if (head.alive && !isExpired(head, now)) return;
+                this.writeOrder.pollFirst();
+                if (head.alive) {
+                    remove(head);
+                    statsCounter.recordEviction();
+                }
+            }
+        }
+
+        private void evictEntries(long targetWeight) {
+            while (this.weight > targetWeight) {
+                var victim = this.eviction.victim();
+                if (victim == null) return;
+                remove(victim);
+                statsCounter.recordEviction();
+            }
+        }
+
+        private void remove(Node<K, V> node) {
+            data.remove(node.key, node);
+            this.eviction.onRemove(node);
+            this.weight -= node.weight;
+            node.alive = false;
+        }
+    }
+}
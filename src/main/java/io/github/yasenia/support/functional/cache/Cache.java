@@ -0,0 +1,70 @@
+package io.github.yasenia.support.functional.cache;
+
+import java.util.function.Function;
+
+/**
+ * A concurrent cache of computed values, bounded according to the {@link CacheSpec} it has been created from.
+ *
+ * <p>Implementations are thread-safe. Keys must not be {@code null}, and {@code null} values are never cached.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of cached values.
+ */
+public interface Cache<K, V> {
+
+    /**
+     * Returns the value cached for the key, computing and caching it with the loader if it is absent or expired.
+     *
+     * <p>The loader runs outside of any lock, so it may invoke this cache recursively. Concurrent misses on the same key
+     * may each run the loader, in which case the first value cached wins and is returned to every caller.
+     *
+     * @param key    the key to look up.
+     * @param loader the function computing the value of an absent key.
+     * @return the cached or computed value, or {@code null} if the loader returned {@code null}.
+     */
+    V get(K key, Function<? super K, ? extends V> loader);
+
+    /**
+     * Returns the value cached for the key, without computing it.
+     *
+     * @param key the key to look up.
+     * @return the cached value, or {@code null} if it is absent or expired.
+     */
+    V getIfPresent(K key);
+
+    /**
+     * Discards the value cached for the key, if any.
+     *
+     * @param key the key to discard.
+     */
+    void invalidate(K key);
+
+    /**
+     * Discards the value cached for the key only if it is still the given value, as {@link java.util.Map#remove(Object, Object)}
+     * does, so that a value loaded again in the meantime is kept.
+     *
+     * @param key   the key to discard.
+     * @param value the value expected to be cached for the key.
+     * @return whether the value has been discarded.
+     */
+    boolean remove(K key, V value);
+
+    /**
+     * Discards all cached values.
+     */
+    void invalidateAll();
+
+    /**
+     * Returns the number of cached entries, which may include expired entries not yet discarded.
+     *
+     * @return the number of cached entries.
+     */
+    long size();
+
+    /**
+     * Returns a snapshot of the hit, miss, load and eviction counters of this cache, along with its current size.
+     *
+     * @return the statistics of this cache.
+     */
+    CacheStats stats();
+}
@@ -0,0 +1,32 @@
+package io.github.yasenia.support.functional.cache;
+
+import javax.management.MXBean;
+
+/**
+ * The management interface exposing the {@link CacheStats} of a cache as JMX attributes, registered through {@link CacheMonitoring}.
+ *
+ * <p>Every attribute reads a fresh snapshot, so attributes read one after another may be slightly inconsistent with each other.
+ */
+@MXBean
+public interface CacheMetrics {
+
+    long getHitCount();
+
+    long getMissCount();
+
+    long getRequestCount();
+
+    double getHitRate();
+
+    long getLoadSuccessCount();
+
+    long getLoadFailureCount();
+
+    long getTotalLoadTime();
+
+    double getAverageLoadPenalty();
+
+    long getEvictionCount();
+
+    long getSize();
+}
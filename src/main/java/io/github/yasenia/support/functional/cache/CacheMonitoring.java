@@ -0,0 +1,131 @@
+package io.github.yasenia.support.functional.cache;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Utility class publishing cache statistics to the platform MBean server, as {@link CacheMetrics} beans.
+ *
+ * <p>Beans are registered under the domain {@value #DOMAIN}, with the caller-supplied name as the {@code name} key property.
+ */
+public final class CacheMonitoring {
+
+    /**
+     * The JMX domain cache beans are registered under.
+     */
+    public static final String DOMAIN = "io.github.yasenia.support.functional";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private CacheMonitoring() {
+    }
+
+    /**
+     * Registers a bean exposing the statistics read from the given source, which is queried on every attribute access.
+     *
+     * @param name  the name of the cache, unique among registered caches.
+     * @param stats the source of statistics snapshots.
+     * @return the object name the bean has been registered under, which {@link #unregister(ObjectName)} accepts.
+     * @throws IllegalArgumentException if a cache is already registered under the same name.
+     */
+    public static ObjectName register(String name, Supplier<CacheStats> stats) {
+        Objects.requireNonNull(stats);
+        var objectName = objectName(name);
+        try {
+            var bean = new StandardMBean(new Metrics(stats), CacheMetrics.class, true);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(bean, objectName);
+            return objectName;
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalArgumentException("A cache is already registered as: " + name, e);
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register cache: " + name, e);
+        }
+    }
+
+    /**
+     * Unregisters a bean previously registered by {@link #register(String, Supplier)}, doing nothing if it is not registered.
+     *
+     * @param objectName the object name the bean has been registered under.
+     */
+    public static void unregister(ObjectName objectName) {
+        var server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(objectName)) server.unregisterMBean(objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to unregister cache: " + objectName, e);
+        }
+    }
+
+    /**
+     * Returns the object name a cache of the given name is registered under.
+     *
+     * @param name the name of the cache.
+     * @return the object name of the cache.
+     */
+    public static ObjectName objectName(String name) {
+        try {
+            return new ObjectName(DOMAIN + ":type=Cache,name=" + ObjectName.quote(Objects.requireNonNull(name)));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Invalid cache name: " + name, e);
+        }
+    }
+
+    private record Metrics(Supplier<CacheStats> stats) implements CacheMetrics {
+
+        @Override
+        public long getHitCount() {
+            return this.stats.get().hitCount();
+        }
+
+        @Override
+        public long getMissCount() {
+            return this.stats.get().missCount();
+        }
+
+        @Override
+        public long getRequestCount() {
+            return this.stats.get().requestCount();
+        }
+
+        @Override
+        public double getHitRate() {
+            return this.stats.get().hitRate();
+        }
+
+        @Override
+        public long getLoadSuccessCount() {
+            return this.stats.get().loadSuccessCount();
+        }
+
+        @Override
+        public long getLoadFailureCount() {
+            return this.stats.get().loadFailureCount();
+        }
+
+        @Override
+        public long getTotalLoadTime() {
+            return this.stats.get().totalLoadTime();
+        }
+
+        @Override
+        public double getAverageLoadPenalty() {
+            return this.stats.get().averageLoadPenalty();
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return this.stats.get().evictionCount();
+        }
+
+        @Override
+        public long getSize() {
+            return this.stats.get().size();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.yasenia.support.functional.cache;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * An immutable specification of how a {@link Cache} is bounded, from which any number of independent caches can be created.
+ *
+ * <p>A cache may be bounded by a maximum number of entries or by a maximum total weight, and may additionally expire entries
+ * a fixed time after they were written. Without a maximum size or weight, the eviction policy is ignored.
+ *
+ * <p>Entries are spread over lock-striped segments by key hash, and each segment enforces its share of the bound. The shares
+ * add up to the bound, which the cache therefore never exceeds, but a segment evicts as soon as its share is full, so the
+ * cache may evict before reaching the bound when keys are unevenly spread. Every segment holds at least 64 units of weight,
+ * which limits the number of segments of small caches, and a concurrency level of one makes the bound exact. Reads never
+ * block: they only record the access if the lock of their segment happens to be free, so the eviction order is approximate
+ * under contention.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of cached values.
+ */
+public final class CacheSpec<K, V> {
+
+    /**
+     * The maximum number of entries of the default specification.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 1 << 16;
+
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+    private static final long NEVER = 0;
+    private static final CacheSpec<Object, Object> DEFAULT = CacheSpec.builder().maximumSize(DEFAULT_MAXIMUM_SIZE).build();
+
+    private final long maximumWeight;
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+    private final EvictionPolicy evictionPolicy;
+    private final long expireAfterWriteNanos;
+    private final int concurrencyLevel;
+    private final LongSupplier ticker;
+
+    private CacheSpec(Builder<K, V> builder) {
+        this.maximumWeight = builder.maximumWeight;
+        this.weigher = builder.weigher;
+        this.evictionPolicy = builder.evictionPolicy;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.concurrencyLevel = builder.concurrencyLevel;
+        this.ticker = builder.ticker;
+    }
+
+    /**
+     * Returns a builder of specifications, which are unbounded and use {@link EvictionPolicy#TINY_LFU} unless configured otherwise.
+     *
+     * @param <K> the type of keys.
+     * @param <V> the type of cached values.
+     * @return a new builder.
+     */
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the default specification, bounded to {@link #DEFAULT_MAXIMUM_SIZE} entries evicted by {@link EvictionPolicy#TINY_LFU}.
+     *
+     * @param <K> the type of keys.
+     * @param <V> the type of cached values.
+     * @return the default specification.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> CacheSpec<K, V> defaults() {
+        return (CacheSpec<K, V>) DEFAULT;
+    }
+
+    /**
+     * Creates a new empty cache following this specification.
+     *
+     * @param <K1> the type of keys of the cache.
+     * @param <V1> the type of values of the cache.
+     * @return a new cache.
+     */
+    public <K1 extends K, V1 extends V> Cache<K1, V1> newCache() {
+        return new BoundedCache<>(this);
+    }
+
+    boolean isBounded() {
+        return this.maximumWeight != UNBOUNDED;
+    }
+
+    boolean isExpiring() {
+        return this.expireAfterWriteNanos != NEVER;
+    }
+
+    long maximumWeight() {
+        return this.maximumWeight;
+    }
+
+    ToIntBiFunction<? super K, ? super V> weigher() {
+        return this.weigher;
+    }
+
+    EvictionPolicy evictionPolicy() {
+        return this.evictionPolicy;
+    }
+
+    long expireAfterWriteNanos() {
+        return this.expireAfterWriteNanos;
+    }
+
+    int concurrencyLevel() {
+        return this.concurrencyLevel;
+    }
+
+    LongSupplier ticker() {
+        return this.ticker;
+    }
+
+    /**
+     * A builder of {@link CacheSpec}.
+     *
+     * @param <K> the type of keys.
+     * @param <V> the type of cached values.
+     */
+    public static final class Builder<K, V> {
+
+        private long maximumWeight = UNBOUNDED;
+        private ToIntBiFunction<? super K, ? super V> weigher = (key, value) -> 1;
+        private EvictionPolicy evictionPolicy = EvictionPolicy.TINY_LFU;
+        private long expireAfterWriteNanos = NEVER;
+        private int concurrencyLevel = Runtime.getRuntime().availableProcessors();
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Bounds the cache to a maximum number of entries.
+         *
+         * @param maximumSize the maximum number of entries, which may be zero to disable caching.
+         * @return this builder.
+         */
+        public Builder<K, V> maximumSize(long maximumSize) {
+            return maximumWeight(maximumSize, (key, value) -> 1);
+        }
+
+        /**
+         * Bounds the cache to a maximum total weight of entries.
+         *
+         * @param maximumWeight the maximum total weight, which may be zero to disable caching.
+         * @param weigher       the function estimating the non-negative weight of an entry when it is written.
+         * @return this builder.
+         */
+        public Builder<K, V> maximumWeight(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher) {
+            if (maximumWeight < 0) throw new IllegalArgumentException("Maximum weight must not be negative: " + maximumWeight);
+            this.maximumWeight = maximumWeight;
+            this.weigher = Objects.requireNonNull(weigher);
+            return this;
+        }
+
+        /**
+         * Selects the policy choosing which entry to evict once the maximum size or weight is exceeded.
+         *
+         * @param evictionPolicy the eviction policy.
+         * @return this builder.
+         */
+        public Builder<K, V> evictionPolicy(EvictionPolicy evictionPolicy) {
+            this.evictionPolicy = Objects.requireNonNull(evictionPolicy);
+            return this;
+        }
+
+        /**
+         * Expires entries a fixed time after they were written, after which they are computed again on access.
+         *
+         * @param duration the positive time to live of an entry.
+         * @return this builder.
+         */
+        public Builder<K, V> expireAfterWrite(Duration duration) {
+            if (duration.isNegative() || duration.isZero()) throw new IllegalArgumentException("Time to live must be positive: " + duration);
+            this.expireAfterWriteNanos = duration.toNanos();
+            return this;
+        }
+
+        /**
+         * Hints the number of threads expected to write to the cache concurrently, which determines the number of lock stripes.
+         *
+         * @param concurrencyLevel the positive number of concurrent writers, by default the number of available processors.
+         * @return this builder.
+         */
+        public Builder<K, V> concurrencyLevel(int concurrencyLevel) {
+            if (concurrencyLevel <= 0) throw new IllegalArgumentException("Concurrency level must be positive: " + concurrencyLevel);
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        /**
+         * Replaces the nanosecond time source used for expiration, which is {@link System#nanoTime()} by default.
+         *
+         * @param ticker the time source in nanoseconds.
+         * @return this builder.
+         */
+        public Builder<K, V> ticker(LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        public CacheSpec<K, V> build() {
+            return new CacheSpec<>(this);
+        }
+    }
+}
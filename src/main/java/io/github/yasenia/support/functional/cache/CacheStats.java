@@ -0,0 +1,65 @@
+package io.github.yasenia.support.functional.cache;
+
+/**
+ * An immutable snapshot of the counters of a {@link Cache}, or of a memoized function, taken at a point in time.
+ *
+ * <p>Every lookup is counted either as a hit or as a miss, and every miss which runs the loader is counted either as a
+ * successful load, or as a failed one if the loader threw or returned {@code null}. Load times are measured in nanoseconds.
+ *
+ * @param hitCount         the number of lookups which returned a cached value.
+ * @param missCount        the number of lookups which found no cached value.
+ * @param loadSuccessCount the number of loads which computed a cacheable value.
+ * @param loadFailureCount the number of loads which threw or returned {@code null}.
+ * @param totalLoadTime    the total time spent loading values, in nanoseconds.
+ * @param evictionCount    the number of entries evicted because of the maximum size or weight, or because they expired.
+ * @param size             the number of cached entries when the snapshot was taken.
+ */
+public record CacheStats(
+    long hitCount,
+    long missCount,
+    long loadSuccessCount,
+    long loadFailureCount,
+    long totalLoadTime,
+    long evictionCount,
+    long size
+) {
+
+    /**
+     * Returns the number of lookups, hits and misses included.
+     *
+     * @return the number of lookups.
+     */
+    public long requestCount() {
+        return this.hitCount + this.missCount;
+    }
+
+    /**
+     * Returns the ratio of lookups which returned a cached value, which is {@code 1} if there has been no lookup.
+     *
+     * @return the hit rate, between {@code 0} and {@code 1}.
+     */
+    public double hitRate() {
+        var requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) this.hitCount / requestCount;
+    }
+
+    /**
+     * Returns the ratio of lookups which found no cached value, which is {@code 0} if there has been no lookup.
+     *
+     * @return the miss rate, between {@code 0} and {@code 1}.
+     */
+    public double missRate() {
+        var requestCount = requestCount();
+        return requestCount == 0 ? 0.0 : (double) this.missCount / requestCount;
+    }
+
+    /**
+     * Returns the average time spent loading a value, failed loads included, which is {@code 0} if nothing has been loaded.
+     *
+     * @return the average load time, in nanoseconds.
+     */
+    public double averageLoadPenalty() {
+        var loadCount = this.loadSuccessCount + this.loadFailureCount;
+        return loadCount == 0 ? 0.0 : (double) this.totalLoadTime / loadCount;
+    }
+}
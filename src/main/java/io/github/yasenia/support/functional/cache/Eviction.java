@@ -0,0 +1,30 @@
+package io.github.yasenia.support.functional.cache;
+
+/**
+ * The bookkeeping of an {@link EvictionPolicy} for the entries of one cache segment.
+ *
+ * <p>Implementations are not thread-safe: every method is called under the lock of the segment.
+ */
+interface Eviction<K, V> {
+
+    static <K, V> Eviction<K, V> of(EvictionPolicy policy, long capacity) {
+        return switch (policy) {
+            case LRU -> new LruEviction<>();
+            case LFU -> new LfuEviction<>();
+            case TINY_LFU -> new TinyLfuEviction<>(capacity);
+        };
+    }
+
+    void onInsert(Node<K, V> node);
+
+    void onAccess(Node<K, V> node);
+
+    void onRemove(Node<K, V> node);
+
+    /**
+     * Selects the entry to evict next, which the caller then removes through {@link #onRemove(Node)}.
+     *
+     * @return the entry to evict, or {@code null} if there is no entry.
+     */
+    Node<K, V> victim();
+}
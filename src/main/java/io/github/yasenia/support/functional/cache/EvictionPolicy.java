@@ -0,0 +1,29 @@
+package io.github.yasenia.support.functional.cache;
+
+/**
+ * The policies a bounded {@link Cache} can use to choose which entry to evict once its maximum size or weight is exceeded.
+ */
+public enum EvictionPolicy {
+
+    /**
+     * Least recently used: evicts the entry which has not been read or written for the longest time.
+     *
+     * <p>A good fit for workloads with strong temporal locality, but a single scan over many distinct keys flushes the whole cache.
+     */
+    LRU,
+
+    /**
+     * Least frequently used: evicts the entry which has been read the fewest times, the oldest one among ties.
+     *
+     * <p>A good fit for stable popularity distributions, but entries which were popular once are slow to age out.
+     */
+    LFU,
+
+    /**
+     * Window TinyLFU: new entries enter a small LRU window, and entries leaving the window are only admitted into the main
+     * segmented LRU space if a frequency sketch estimates them to be more popular than the entry they would replace.
+     *
+     * <p>Combines the recency behavior of LRU with the scan resistance of LFU, and is the recommended default.
+     */
+    TINY_LFU
+}
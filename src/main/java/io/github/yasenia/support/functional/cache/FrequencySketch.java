@@ -0,0 +1,64 @@
+package io.github.yasenia.support.functional.cache;
+
+/**
+ * A count-min sketch estimating how often keys have been accessed recently, in a fixed amount of memory.
+ *
+ * <p>Each key increments one saturating 4-bit counter in each of four rows, and its estimated frequency is the smallest
+ * of those counters. Once the number of increments reaches ten times the width of a row, every counter is halved, so that
+ * the popularity of keys which are no longer accessed decays over time.
+ */
+final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAXIMUM_COUNT = 15;
+    private static final int MINIMUM_WIDTH = 16;
+    private static final int MAXIMUM_WIDTH = 1 << 16;
+    private static final int SAMPLE_FACTOR = 10;
+    private static final int[] SEEDS = {0x97CB_3127, 0xB492_B66F, 0x9E37_79B9, 0x85EB_CA6B};
+
+    private final byte[] counters;
+    private final int width;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(long capacity) {
+        this.width = Integer.highestOneBit(Math.clamp(capacity, MINIMUM_WIDTH, MAXIMUM_WIDTH) * 2 - 1);
+        this.counters = new byte[DEPTH * this.width];
+        this.sampleSize = SAMPLE_FACTOR * this.width;
+    }
+
+    int frequency(Object key) {
+        var hash = key.hashCode();
+        var frequency = MAXIMUM_COUNT;
+        for (int row = 0; row < DEPTH; row++) {
+            frequency = Math.min(frequency, this.counters[indexOf(hash, row)]);
+        }
+        return frequency;
+    }
+
+    void increment(Object key) {
+        var hash = key.hashCode();
+        var added = false;
+        for (int row = 0; row < DEPTH; row++) {
+            var index = indexOf(hash, row);
+            if (this.counters[index] < MAXIMUM_COUNT) {
+                this.counters[index]++;
+                added = true;
+            }
+        }
+        if (added && ++this.additions >= this.sampleSize) reset();
+    }
+
+    private void reset() {
+        for (int index = 0; index < this.counters.length; index++) {
+            this.counters[index] >>>= 1;
+        }
+        this.additions >>>= 1;
+    }
+
+    private int indexOf(int hash, int row) {
+        var mixed = (hash ^ SEEDS[row]) * SEEDS[row];
+        mixed ^= mixed >>> 16;
+        return row * this.width + (mixed & (this.width - 1));
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.yasenia.support.functional.cache;
+
+/**
+ * The {@link EvictionPolicy#LFU} bookkeeping in constant time per operation.
+ *
+ * <p>Entries are grouped into buckets of equal access frequency, and the buckets form a list in ascending frequency order.
+ * An access moves an entry to the bucket of the next frequency, creating it if needed, and the victim is the oldest entry
+ * of the first bucket.
+ */
+final class LfuEviction<K, V> implements Eviction<K, V> {
+
+    private FrequencyBucket<K, V> lowest;
+
+    @Override
+    public void onInsert(Node<K, V> node) {
+        var bucket = this.lowest;
+        if (bucket == null || bucket.frequency != 1) {
+            bucket = linkAfter(null, 1);
+        }
+        bucket.addLast(node);
+    }
+
+    @Override
+    public void onAccess(Node<K, V> node) {
+        var bucket = (FrequencyBucket<K, V>) node.list;
+        var next = bucket.next;
+        if (next == null || next.frequency != bucket.frequency + 1) {
+            next = linkAfter(bucket, bucket.frequency + 1);
+        }
+        bucket.remove(node);
+        next.addLast(node);
+        if (bucket.isEmpty()) unlink(bucket);
+    }
+
+    @Override
+    public void onRemove(Node<K, V> node) {
+        var bucket = (FrequencyBucket<K, V>) node.list;
+        bucket.remove(node);
+        if (bucket.isEmpty()) unlink(bucket);
+    }
+
+    @Override
+    public Node<K, V> victim() {
+        return this.lowest == null ? null : this.lowest.head;
+    }
+
+    private FrequencyBucket<K, V> linkAfter(FrequencyBucket<K, V> previous, long frequency) {
+        var bucket = new FrequencyBucket<K, V>(frequency);
+        bucket.previous = previous;
+        bucket.next = previous == null ? this.lowest : previous.next;
+        if (bucket.next != null) bucket.next.previous = bucket;
+        if (previous == null) {
+            this.lowest = bucket;
+        } else {
+            previous.next = bucket;
+        }
+        return bucket;
+    }
+
+    private void unlink(FrequencyBucket<K, V> bucket) {
+        if (bucket.previous == null) {
+            this.lowest = bucket.next;
+        } else {
+            bucket.previous.next = bucket.next;
+        }
+        if (bucket.next != null) bucket.next.previous = bucket.previous;
+    }
+
+    private static final class FrequencyBucket<K, V> extends NodeList<K, V> {
+
+        private final long frequency;
+        private FrequencyBucket<K, V> previous;
+        private FrequencyBucket<K, V> next;
+
+        private FrequencyBucket(long frequency) {
+            this.frequency = frequency;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package io.github.yasenia.support.functional.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongFunction;
+
+/**
+ * A concurrent cache of values computed from primitive {@code long} keys, bounded to a fixed number of entries.
+ *
+ * <p>Keys and values live in parallel arrays split into 8-way buckets, like a set-associative hardware cache: a key can
+ * only be stored in the bucket selected by its hash, and once its bucket is full, a new key replaces the entries of the
+ * bucket in round-robin order. Lookups never box keys nor allocate, and do not lock either: they read the bucket under an
+ * optimistic {@link StampedLock} stamp, and only fall back to a read lock if a write raced with them.
+ *
+ * <p>Keys of type {@code int} are widened to {@code long}. Like {@link Cache}, this cache never caches {@code null} values.
+ *
+ * @param <V> the type of cached values.
+ */
+public final class LongKeyCache<V> {
+
+    private static final int MAXIMUM_WAYS = 8;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int MAXIMUM_LOCKS = 1 << 10;
+
+    private final long[] keys;
+    private final Object[] values;
+    private final byte[] hands;
+    private final int ways;
+    private final int bucketMask;
+    private final StampedLock[] locks;
+    private final int lockMask;
+    private final LongAdder size = new LongAdder();
+    private final StatsCounter statsCounter = new StatsCounter();
+
+    /**
+     * Creates an empty cache holding at most the given number of entries.
+     *
+     * <p>The capacity is rounded down to a power of two, so that buckets are selected by masking the hash of keys.
+     *
+     * @param maximumSize the positive maximum number of entries.
+     */
+    public LongKeyCache(long maximumSize) {
+        if (maximumSize <= 0) throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        var capacity = (int) Long.highestOneBit(Math.min(maximumSize, MAXIMUM_CAPACITY));
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.ways = Math.min(capacity, MAXIMUM_WAYS);
+        var bucketCount = capacity / this.ways;
+        this.hands = new byte[bucketCount];
+        this.bucketMask = bucketCount - 1;
+        var lockCount = Math.min(bucketCount, MAXIMUM_LOCKS);
+        this.locks = new StampedLock[lockCount];
+        for (int index = 0; index < lockCount; index++) {
+            this.locks[index] = new StampedLock();
+        }
+        this.lockMask = lockCount - 1;
+    }
+
+    /**
+     * Returns the value cached for the key, computing and caching it with the loader if it is absent.
+     *
+     * <p>The loader runs outside of any lock, so it may invoke this cache recursively. Concurrent misses on the same key
+     * may each run the loader, in which case the first value cached wins and is returned to every caller.
+     *
+     * @param key    the key to look up.
+     * @param loader the function computing the value of an absent key.
+     * @return the cached or computed value, or {@code null} if the loader returned {@code null}.
+     */
+    public V get(long key, LongFunction<? extends V> loader) {
+        var bucket = bucketOf(key);
+        var value = lookup(bucket, key);
+        if (value != null) {
+            this.statsCounter.recordHit();
+            return value;
+        }
+        this.statsCounter.recordMiss();
+        value = load(key, loader);
+        if (value == null) return null;
+        return insert(bucket, key, value);
+    }
+
+    /**
+     * Returns the value cached for the key, without computing it.
+     *
+     * @param key the key to look up.
+     * @return the cached value, or {@code null} if it is absent.
+     */
+    public V getIfPresent(long key) {
+        var value = lookup(bucketOf(key), key);
+        if (value != null) {
+            this.statsCounter.recordHit();
+        } else {
+            this.statsCounter.recordMiss();
+        }
+        return value;
+    }
+
+    /**
+     * Discards the value cached for the key, if any.
+     *
+     * @param key the key to discard.
+     */
+    public void invalidate(long key) {
+        var bucket = bucketOf(key);
+        var lock = lockOf(bucket);
+        var stamp = lock.writeLock();
+        try {
+            var slot = slotOf(bucket, key);
+            if (slot < 0) return;
+            this.values[slot] = null;
+            this.size.decrement();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Discards all cached values.
+     */
+    public void invalidateAll() {
+        for (int bucket = 0; bucket <= this.bucketMask; bucket++) {
+            var lock = lockOf(bucket);
+            var stamp = lock.writeLock();
+            try {
+                for (int slot = bucket * this.ways, end = slot + this.ways; slot < end; slot++) {
+                    if (this.values[slot] == null) continue;
+                    this.values[slot] = null;
+                    this.size.decrement();
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of cached entries.
+     */
+    public long size() {
+        return this.size.sum();
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss, load and eviction counters of this cache, along with its current size.
+     *
+     * @return the statistics of this cache.
+     */
+    public CacheStats stats() {
+        return this.statsCounter.snapshot(size());
+    }
+
+    private V lookup(int bucket, long key) {
+        var lock = lockOf(bucket);
+        var stamp = lock.tryOptimisticRead();
+        var value = valueAt(slotOf(bucket, key));
+        if (lock.validate(stamp)) return value;
+        stamp = lock.readLock();
+        try {
+            return valueAt(slotOf(bucket, key));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private V insert(int bucket, long key, V value) {
+        var lock = lockOf(bucket);
+        var stamp = lock.writeLock();
+        try {
+            var slot = slotOf(bucket, key);
+            if (slot >= 0) return valueAt(slot);
+            slot = freeSlotOf(bucket);
+            if (slot < 0) {
+                var hand = this.hands[bucket];
+                this.hands[bucket] = (byte) ((hand + 1) & (this.ways - 1));
+                slot = bucket * this.ways + hand;
+                this.statsCounter.recordEviction();
+            } else {
+                this.size.increment();
+            }
+            this.keys[slot] = key;
+            this.values[slot] = value;
+            return value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private V load(long key, LongFunction<? extends V> loader) {
+        var start = System.nanoTime();
+        V value = null;
+        try {
+            value = loader.apply(key);
+            return value;
+        } finally {
+            var loadTime = System.nanoTime() - start;
+            if (value != null) {
+                this.statsCounter.recordLoadSuccess(loadTime);
+            } else {
+                this.statsCounter.recordLoadFailure(loadTime);
+            }
+        }
+    }
+
+    private int slotOf(int bucket, long key) {
+        for (int slot = bucket * this.ways, end = slot + this.ways; slot < end; slot++) {
+            if (this.keys[slot] == key && this.values[slot] != null) return slot;
+        }
+        return -1;
+    }
+
+    private int freeSlotOf(int bucket) {
+        for (int slot = bucket * this.ways, end = slot + this.ways; slot < end; slot++) {
+            if (this.values[slot] == null) return slot;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return slot < 0 ? null : (V) this.values[slot];
+    }
+
+    private int bucketOf(long key) {
+        // The finalizer of MurmurHash3, so that keys differing only in their high bits still spread over buckets.
+        var hash = key;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51_AFD7_ED55_8CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CE_B9FE_1A85_EC53L;
+        hash ^= hash >>> 33;
+        return (int) hash & this.bucketMask;
+    }
+
+    private StampedLock lockOf(int bucket) {
+        return this.locks[bucket & this.lockMask];
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.yasenia.support.functional.cache;
+
+/**
+ * The {@link EvictionPolicy#LRU} bookkeeping, a single list in access order.
+ */
+final class LruEviction<K, V> implements Eviction<K, V> {
+
+    private final NodeList<K, V> accessOrder = new NodeList<>();
+
+    @Override
+    public void onInsert(Node<K, V> node) {
+        this.accessOrder.addLast(node);
+    }
+
+    @Override
+    public void onAccess(Node<K, V> node) {
+        this.accessOrder.moveToLast(node);
+    }
+
+    @Override
+    public void onRemove(Node<K, V> node) {
+        this.accessOrder.remove(node);
+    }
+
+    @Override
+    public Node<K, V> victim() {
+        return this.accessOrder.head;
+    }
+}
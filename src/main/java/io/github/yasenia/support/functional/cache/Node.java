@@ -0,0 +1,30 @@
+package io.github.yasenia.support.functional.cache;
+
+/**
+ * A cache entry, which also serves as the element of the intrusive {@link NodeList} its eviction policy keeps it in.
+ *
+ * <p>The key, value and write time never change, while the links are only accessed under the lock of the segment owning the entry.
+ */
+final class Node<K, V> {
+
+    final K key;
+    final V value;
+    final int weight;
+    final long writeTime;
+
+    NodeList<K, V> list;
+    Node<K, V> prev;
+    Node<K, V> next;
+
+    /**
+     * Whether the entry is still cached, written under the segment lock and read without it to skip stale entries.
+     */
+    volatile boolean alive = true;
+
+    Node(K key, V value, int weight, long writeTime) {
+        this.key = key;
+        this.value = value;
+        this.weight = weight;
+        this.writeTime = writeTime;
+    }
+}
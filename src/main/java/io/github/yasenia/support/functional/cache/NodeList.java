@@ -0,0 +1,53 @@
+package io.github.yasenia.support.functional.cache;
+
+/**
+ * An intrusive doubly linked list of cache entries, ordered from the first entry to evict at the head to the last one at the tail.
+ *
+ * <p>Every operation runs in constant time, and an entry belongs to at most one list at a time.
+ */
+class NodeList<K, V> {
+
+    Node<K, V> head;
+    Node<K, V> tail;
+    long weight;
+
+    boolean isEmpty() {
+        return this.head == null;
+    }
+
+    void addLast(Node<K, V> node) {
+        node.list = this;
+        node.prev = this.tail;
+        node.next = null;
+        if (this.tail == null) {
+            this.head = node;
+        } else {
+            this.tail.next = node;
+        }
+        this.tail = node;
+        this.weight += node.weight;
+    }
+
+    void remove(Node<K, V> node) {
+        if (node.prev == null) {
+            this.head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            this.tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.list = null;
+        node.prev = null;
+        node.next = null;
+        this.weight -= node.weight;
+    }
+
+    void moveToLast(Node<K, V> node) {
+        if (node == this.tail) return;
+        remove(node);
+        addLast(node);
+    }
+}
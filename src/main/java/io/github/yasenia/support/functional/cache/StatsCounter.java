@@ -0,0 +1,77 @@
+package io.github.yasenia.support.functional.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe accumulator of the counters reported by {@link CacheStats}.
+ *
+ * <p>Counters are striped {@link LongAdder}s, so concurrent lookups recording hits do not contend on a single memory location.
+ */
+public final class StatsCounter {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Records a lookup which returned a cached value.
+     */
+    public void recordHit() {
+        this.hitCount.increment();
+    }
+
+    /**
+     * Records a lookup which found no cached value.
+     */
+    public void recordMiss() {
+        this.missCount.increment();
+    }
+
+    /**
+     * Records a load which computed a cacheable value.
+     *
+     * @param loadTime the time spent loading, in nanoseconds.
+     */
+    public void recordLoadSuccess(long loadTime) {
+        this.loadSuccessCount.increment();
+        this.totalLoadTime.add(loadTime);
+    }
+
+    /**
+     * Records a load which threw or returned {@code null}.
+     *
+     * @param loadTime the time spent loading, in nanoseconds.
+     */
+    public void recordLoadFailure(long loadTime) {
+        this.loadFailureCount.increment();
+        this.totalLoadTime.add(loadTime);
+    }
+
+    /**
+     * Records an entry evicted because of the maximum size or weight, or because it expired.
+     */
+    public void recordEviction() {
+        this.evictionCount.increment();
+    }
+
+    /**
+     * Takes a snapshot of the counters. Counters updated concurrently may or may not be reflected.
+     *
+     * @param size the number of cached entries to report.
+     * @return the snapshot of the counters.
+     */
+    public CacheStats snapshot(long size) {
+        return new CacheStats(
+            this.hitCount.sum(),
+            this.missCount.sum(),
+            this.loadSuccessCount.sum(),
+            this.loadFailureCount.sum(),
+            this.totalLoadTime.sum(),
+            this.evictionCount.sum(),
+            size
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.yasenia.support.functional.cache;
+
+/**
+ * The {@link EvictionPolicy#TINY_LFU} bookkeeping.
+ *
+ * <p>New entries enter an LRU window holding one percent of the capacity. Entries overflowing the window move to the tail of
+ * the probation list of the main space, where an access promotes them to the protected list holding eighty percent of the
+ * main space. When the segment is full, the newest probation entry competes with the oldest one, and the one the
+ * {@link FrequencySketch} estimates to be less popular is evicted.
+ */
+final class TinyLfuEviction<K, V> implements Eviction<K, V> {
+
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final NodeList<K, V> window = new NodeList<>();
+    private final NodeList<K, V> probation = new NodeList<>();
+    private final NodeList<K, V> protectedList = new NodeList<>();
+    private final long maximumWindowWeight;
+    private final long maximumProtectedWeight;
+    private final FrequencySketch sketch;
+
+    TinyLfuEviction(long capacity) {
+        this.maximumWindowWeight = Math.max(1, (long) (capacity * WINDOW_RATIO));
+        this.maximumProtectedWeight = (long) ((capacity - this.maximumWindowWeight) * PROTECTED_RATIO);
+        this.sketch = new FrequencySketch(capacity);
+    }
+
+    @Override
+    public void onInsert(Node<K, V> node) {
+        this.sketch.increment(node.key);
+        this.window.addLast(node);
+        while (this.window.weight > this.maximumWindowWeight && this.window.head != node) {
+            var overflow = this.window.head;
+            this.window.remove(overflow);
+            this.probation.addLast(overflow);
+        }
+    }
+
+    @Override
+    public void onAccess(Node<K, V> node) {
+        this.sketch.increment(node.key);
+        if (node.list == this.probation) {
+            this.probation.remove(node);
+            this.protectedList.addLast(node);
+            while (this.protectedList.weight > this.maximumProtectedWeight && this.protectedList.head != node) {
+                var demoted = this.protectedList.head;
+                this.protectedList.remove(demoted);
+                this.probation.addLast(demoted);
+            }
+        } else {
+            node.list.moveToLast(node);
+        }
+    }
+
+    @Override
+    public void onRemove(Node<K, V> node) {
+        node.list.remove(node);
+    }
+
+    @Override
+    public Node<K, V> victim() {
+        var candidate = this.probation.tail;
+        var victim = this.probation.head;
+        if (candidate != victim) {
+            return this.sketch.frequency(candidate.key) > this.sketch.frequency(victim.key) ? victim : candidate;
+        }
+        if (victim != null) return victim;
+        return this.protectedList.isEmpty() ? this.window.head : this.protectedList.head;
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.yasenia.puzzle.cube.standard.geometric.accessor;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+import io.github.yasenia.puzzle.cube.standard.geometric.rotation.RotateDirection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static io.github.yasenia.puzzle.cube.standard.geometric.accessor.SpatialAccessor.SPATIAL_ORIENTATIONS;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.BACK;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.DOWN;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.FRONT;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.LEFT;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.RIGHT;
+import static io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation.UP;
+import static io.github.yasenia.puzzle.cube.standard.geometric.rotation.RotateDirection.CLOCKWISE;
+import static io.github.yasenia.puzzle.cube.standard.geometric.rotation.RotateDirection.COUNTER_CLOCKWISE;
+import static io.github.yasenia.puzzle.cube.standard.geometric.rotation.RotateDirection.DOUBLE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpatialAccessorTest {
+
+    @Test
+    void should_apply_mapper_on_every_access_when_mapped_lazily() {
+        // setup
+        var invocations = new AtomicInteger();
+        var mapped = SPATIAL_ORIENTATIONS.map(orientation -> invocations.incrementAndGet());
+        // exercise
+        mapped.up();
+        mapped.up();
+        // verify
+        assertFalse(mapped.isMaterialized());
+        assertThat(invocations.get(), is(2));
+    }
+
+    @Test
+    void should_apply_mapper_once_per_orientation_when_materialized() {
+        // setup
+        var invocations = new AtomicInteger();
+        var mapped = SPATIAL_ORIENTATIONS.map(orientation -> {
+            invocations.incrementAndGet();
+            return orientation.opposite();
+        });
+        // exercise
+        var materialized = mapped.materialize();
+        // verify
+        assertTrue(materialized.isMaterialized());
+        assertThat(invocations.get(), is(SpatialOrientation.values().length));
+        for (var orientation : SpatialOrientation.values()) {
+            assertThat(materialized.at(orientation), is(orientation.opposite()));
+            assertThat(materialized.at(orientation), sameInstance(materialized.at(orientation)));
+        }
+        assertThat(invocations.get(), is(SpatialOrientation.values().length));
+    }
+
+    @Test
+    void should_return_itself_when_materializing_materialized_accessor() {
+        // exercise
+        var materialized = SPATIAL_ORIENTATIONS.materialize();
+        // verify
+        assertThat(materialized, sameInstance(SPATIAL_ORIENTATIONS));
+    }
+
+    @Test
+    void should_rearrange_orientations_around_axis_when_rotating() {
+        // exercise
+        var rotated = SPATIAL_ORIENTATIONS.rotate(UP, CLOCKWISE);
+        // verify
+        assertSameOrientations(rotated, new SpatialAccessor<>(UP, DOWN, FRONT, BACK, RIGHT, LEFT));
+        assertSameOrientations(rotated.rotate(UP, COUNTER_CLOCKWISE), SPATIAL_ORIENTATIONS);
+        assertSameOrientations(rotated.rotate(UP, CLOCKWISE), SPATIAL_ORIENTATIONS.rotate(UP, DOUBLE));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SpatialOrientation.class)
+    void should_rotate_lazy_and_materialized_accessors_alike(SpatialOrientation orientation) {
+        // setup
+        var lazy = SPATIAL_ORIENTATIONS.map(Function.identity());
+        for (var direction : RotateDirection.values()) {
+            // exercise
+            var rotated = lazy.rotate(orientation, direction);
+            // verify
+            assertFalse(rotated.isMaterialized());
+            assertSameOrientations(rotated, SPATIAL_ORIENTATIONS.rotate(orientation, direction));
+        }
+    }
+
+    @Test
+    void should_keep_constant_depth_when_rotating_lazy_accessor_repeatedly() {
+        // setup
+        var random = new Random(20231021L);
+        var orientations = SpatialOrientation.values();
+        var directions = RotateDirection.values();
+        var lazy = SPATIAL_ORIENTATIONS.map(Function.identity());
+        var materialized = SPATIAL_ORIENTATIONS;
+        // exercise
+        for (int i = 0; i < 1_000_000; i++) {
+            var orientation = orientations[random.nextInt(orientations.length)];
+            var direction = directions[random.nextInt(directions.length)];
+            lazy = lazy.rotate(orientation, direction);
+            materialized = materialized.rotate(orientation, direction);
+        }
+        // verify
+        assertFalse(lazy.isMaterialized());
+        assertTrue(materialized.isMaterialized());
+        assertSameOrientations(lazy, materialized);
+    }
+
+    private static void assertSameOrientations(SpatialAccessor<SpatialOrientation> actual, SpatialAccessor<SpatialOrientation> expected) {
+        for (var orientation : SpatialOrientation.values()) {
+            assertThat(actual.at(orientation), is(expected.at(orientation)));
+        }
+    }
+}
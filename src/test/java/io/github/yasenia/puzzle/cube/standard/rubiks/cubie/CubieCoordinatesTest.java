@@ -0,0 +1,74 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.cubie;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class CubieCoordinatesTest {
+
+    @Test
+    void should_rank_identity_to_zero() {
+        // exercise & verify
+        assertThat(CubieCoordinates.rankPermutation(new byte[] {0, 1, 2, 3, 4, 5, 6, 7}), is(0));
+        assertThat(CubieCoordinates.rankOrientation(new byte[8], 3), is(0));
+    }
+
+    @Test
+    void should_unrank_every_corner_permutation_to_a_distinct_permutation_of_the_same_rank() {
+        // setup
+        var seen = new HashSet<String>();
+        var permutation = new byte[CubieCoordinates.CORNER_COUNT];
+        for (int rank = 0; rank < CubieCoordinates.CORNER_PERMUTATIONS; rank++) {
+            // exercise
+            CubieCoordinates.unrankPermutation(rank, permutation);
+            // verify
+            var sorted = permutation.clone();
+            Arrays.sort(sorted);
+            assertThat(sorted, equalTo(new byte[] {0, 1, 2, 3, 4, 5, 6, 7}));
+            assertThat(CubieCoordinates.rankPermutation(permutation), is(rank));
+            assertThat(seen.add(Arrays.toString(permutation)), is(true));
+        }
+        assertThat(seen.size(), is(CubieCoordinates.CORNER_PERMUTATIONS));
+    }
+
+    @Test
+    void should_round_trip_edge_permutations_sampled_over_the_whole_range() {
+        // setup
+        var permutation = new byte[CubieCoordinates.EDGE_COUNT];
+        for (int rank = 0; rank < CubieCoordinates.EDGE_PERMUTATIONS; rank += 999_983) {
+            // exercise
+            CubieCoordinates.unrankPermutation(rank, permutation);
+            // verify
+            assertThat(CubieCoordinates.rankPermutation(permutation), is(rank));
+        }
+    }
+
+    @Test
+    void should_round_trip_orientations_and_derive_the_last_one() {
+        // setup
+        var orientation = new byte[CubieCoordinates.CORNER_COUNT];
+        for (int rank = 0; rank < CubieCoordinates.CORNER_ORIENTATIONS; rank++) {
+            // exercise
+            CubieCoordinates.unrankOrientation(rank, 3, orientation);
+            // verify
+            assertThat(CubieCoordinates.rankOrientation(orientation, 3), is(rank));
+            var sum = 0;
+            for (var twist : orientation) sum += twist;
+            assertThat(sum % 3, is(0));
+        }
+    }
+
+    @Test
+    void should_compute_parity_from_cycles() {
+        // exercise & verify
+        assertThat(CubieCoordinates.parity(new byte[] {0, 1, 2, 3}), is(0));
+        assertThat(CubieCoordinates.parity(new byte[] {1, 0, 2, 3}), is(1));
+        assertThat(CubieCoordinates.parity(new byte[] {1, 2, 0, 3}), is(0));
+        assertThat(CubieCoordinates.parity(new byte[] {1, 2, 3, 0}), is(1));
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.cubie;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.impl.PackedRubiksCube;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RubiksCubeValidatorTest {
+
+    private static final String SOLVED = "UUUUUUUUURRRRRRRRRFFFFFFFFFDDDDDDDDDLLLLLLLLLBBBBBBBBB";
+
+    @Test
+    void should_accept_solved_and_scrambled_cubes() {
+        // setup
+        var random = new Random(20231301L);
+        RubiksCube cube = new PackedRubiksCube();
+        for (int step = 0; step < 50; step++) {
+            cube = cube.rotate(RubiksRotation.values()[random.nextInt(RubiksRotation.values().length)]);
+            // exercise & verify
+            assertThat(RubiksCubeValidator.validate(cube), equalTo(List.of()));
+            assertThat(RubiksCubeValidator.validate(RubiksCubeValidator.format(cube)), equalTo(List.of()));
+        }
+    }
+
+    @Test
+    void should_format_and_parse_facelet_strings_losslessly() {
+        // setup
+        var cube = new PackedRubiksCube().rotate(RubiksRotation.R).rotate(RubiksRotation.U_P).rotate(RubiksRotation.F_2);
+        // exercise
+        var facelets = RubiksCubeValidator.format(cube);
+        // verify
+        assertThat(RubiksCubeValidator.format(new PackedRubiksCube()), is(SOLVED));
+        assertThat(RubiksCubeValidator.parse(facelets), equalTo(cube));
+        assertThat(RubiksCubeValidator.parse(facelets.replace('U', 'W').replace('D', 'Y')), equalTo(cube));
+    }
+
+    @Test
+    void should_match_the_standard_facelet_layout() {
+        // exercise
+        var facelets = RubiksCubeValidator.format(new PackedRubiksCube().rotate(RubiksRotation.U));
+        // verify
+        assertThat(facelets, is("UUUUUUUUUBBBRRRRRRRRRFFFFFFDDDDDDDDDFFFLLLLLLLLLBBBBBB"));
+    }
+
+    @Test
+    void should_reject_malformed_strings() {
+        // exercise & verify
+        assertThat(kinds(RubiksCubeValidator.validate("UUU")), equalTo(List.of(ValidationError.Kind.MALFORMED_INPUT)));
+        assertThat(kinds(RubiksCubeValidator.validate(SOLVED.replace('R', 'U'))), equalTo(List.of(ValidationError.Kind.MALFORMED_INPUT)));
+        assertThat(kinds(RubiksCubeValidator.validate(SOLVED.substring(0, 53) + "X")), equalTo(List.of(ValidationError.Kind.UNKNOWN_COLOR, ValidationError.Kind.COLOR_COUNT)));
+    }
+
+    @Test
+    void should_reject_wrong_color_counts() {
+        // setup
+        var facelets = "R" + SOLVED.substring(1);
+        // exercise & verify
+        assertThat(kinds(RubiksCubeValidator.validate(facelets)), equalTo(List.of(ValidationError.Kind.COLOR_COUNT, ValidationError.Kind.COLOR_COUNT)));
+    }
+
+    @Test
+    void should_reject_impossible_cubies() {
+        // setup: swap two facelets of the same color count but on different cubies, so that both become impossible
+        var facelets = swap(SOLVED, 0, 9 + 8);
+        facelets = swap(facelets, 2, 9 + 6);
+        // exercise
+        var errors = RubiksCubeValidator.validate(facelets);
+        // verify
+        assertThat(errors.isEmpty(), is(false));
+        for (var error : errors) {
+            assertThat(error.kind() == ValidationError.Kind.INVALID_CORNER || error.kind() == ValidationError.Kind.INVALID_EDGE, is(true));
+        }
+    }
+
+    @Test
+    void should_reject_twisted_corner() {
+        // setup: twist URF clockwise, its facelets being U 8, R 0 and F 2
+        var facelets = SOLVED.toCharArray();
+        facelets[8] = 'F';
+        facelets[9] = 'U';
+        facelets[18 + 2] = 'R';
+        // exercise & verify
+        assertThat(kinds(RubiksCubeValidator.validate(new String(facelets))), equalTo(List.of(ValidationError.Kind.CORNER_TWIST)));
+        assertThrows(IllegalArgumentException.class, () -> RubiksCubeValidator.parse(new String(facelets)));
+    }
+
+    @Test
+    void should_reject_flipped_edge() {
+        // setup: flip UF, its facelets being U 7 and F 1
+        var facelets = swap(SOLVED, 7, 18 + 1);
+        // exercise & verify
+        assertThat(kinds(RubiksCubeValidator.validate(facelets)), equalTo(List.of(ValidationError.Kind.EDGE_FLIP)));
+    }
+
+    @Test
+    void should_reject_single_swapped_edges() {
+        // setup: swap UF and UR, whose U facelets are U 7 and U 5, and side facelets F 1 and R 1
+        var facelets = swap(swap(SOLVED, 7, 5), 18 + 1, 9 + 1);
+        // exercise & verify
+        assertThat(kinds(RubiksCubeValidator.validate(facelets)), equalTo(List.of(ValidationError.Kind.PERMUTATION_PARITY)));
+    }
+
+    @Test
+    void should_reject_duplicate_cubies() {
+        // setup: make UF show U and R like UR, and DR show D and F like DF, keeping color counts
+        var facelets = SOLVED.toCharArray();
+        facelets[18 + 1] = 'R';
+        facelets[9 + 7] = 'F';
+        // exercise & verify
+        assertThat(kinds(RubiksCubeValidator.validate(new String(facelets))), equalTo(List.of(ValidationError.Kind.DUPLICATE_EDGE, ValidationError.Kind.DUPLICATE_EDGE)));
+    }
+
+    private static List<ValidationError.Kind> kinds(List<ValidationError> errors) {
+        return errors.stream().map(ValidationError::kind).toList();
+    }
+
+    private static String swap(String facelets, int first, int second) {
+        var chars = facelets.toCharArray();
+        var swapped = chars[first];
+        chars[first] = chars[second];
+        chars[second] = swapped;
+        return new String(chars);
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.cubie;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.impl.PackedRubiksCube;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class RubiksCubiesTest {
+
+    @Test
+    void should_read_solved_cubies_from_solved_cube() {
+        // exercise
+        var cubies = RubiksCubies.of(RubiksCube.SOLVED_CUBE);
+        // verify
+        assertThat(cubies, equalTo(RubiksCubies.SOLVED));
+        assertThat(cubies.cornerPermutation(), is(0));
+        assertThat(cubies.cornerOrientation(), is(0));
+        assertThat(cubies.edgePermutation(), is(0));
+        assertThat(cubies.edgeOrientation(), is(0));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RubiksRotation.class)
+    void should_rotate_cubies_as_facelets_rotate(RubiksRotation rotation) {
+        // setup
+        var cube = randomCube(new Random(20231201L + rotation.ordinal()));
+        // exercise
+        var cubies = RubiksCubies.of(cube).rotate(rotation);
+        // verify
+        assertThat(cubies, equalTo(RubiksCubies.of(cube.rotate(rotation))));
+        assertThat(cubies.toCube(), equalTo(cube.rotate(rotation)));
+    }
+
+    @Test
+    void should_convert_random_states_losslessly() {
+        // setup
+        var random = new Random(20231202L);
+        for (int sample = 0; sample < 100; sample++) {
+            var cube = randomCube(random);
+            // exercise
+            var cubies = RubiksCubies.of(cube);
+            // verify
+            assertThat(cubies.toCube(), equalTo(cube));
+            assertThat(cubies.isSolvable(), is(true));
+            assertThat(RubiksCubies.of(cubies.cornerPermutation(), cubies.cornerOrientation(), cubies.edgePermutation(), cubies.edgeOrientation()), equalTo(cubies));
+        }
+    }
+
+    @Test
+    void should_flip_quarter_turn_edges_on_front_and_back_only() {
+        // exercise
+        var front = RubiksCubies.of(RubiksRotation.F);
+        var right = RubiksCubies.of(RubiksRotation.R);
+        // verify
+        assertThat(front.edgeOrientation() != 0, is(true));
+        assertThat(right.edgeOrientation(), is(0));
+        assertThat(RubiksCubies.of(RubiksRotation.U).cornerOrientation(), is(0));
+    }
+
+    @Test
+    void should_move_coordinates_through_tables_as_cubies_move() {
+        // setup
+        var random = new Random(20231203L);
+        for (int sample = 0; sample < 100; sample++) {
+            var cubies = RubiksCubies.of(randomCube(random));
+            for (var rotation : RubiksRotation.values()) {
+                // exercise
+                var rotated = cubies.rotate(rotation);
+                // verify
+                assertThat(CubieMoveTables.moveCornerPermutation(cubies.cornerPermutation(), rotation), is(rotated.cornerPermutation()));
+                assertThat(CubieMoveTables.moveCornerOrientation(cubies.cornerOrientation(), rotation), is(rotated.cornerOrientation()));
+                assertThat(CubieMoveTables.moveEdgeOrientation(cubies.edgeOrientation(), rotation), is(rotated.edgeOrientation()));
+            }
+        }
+    }
+
+    private static RubiksCube randomCube(Random random) {
+        RubiksCube cube = new PackedRubiksCube();
+        var rotations = RubiksRotation.values();
+        for (int step = 0; step < 30; step++) {
+            cube = cube.rotate(rotations[random.nextInt(rotations.length)]);
+        }
+        return cube;
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.impl;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube.SOLVED_CUBE;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.R;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.U;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MutableRubiksCubeTest {
+
+    @ParameterizedTest
+    @MethodSource("randomRotationsStream")
+    void should_match_immutable_cube_when_applying_rotations_in_place(List<RubiksRotation> rotations) {
+        // setup
+        var mutableCube = SOLVED_CUBE.toMutable();
+        // exercise
+        rotations.forEach(mutableCube::apply);
+        // verify
+        assertThat(mutableCube.depth(), is(rotations.size()));
+        assertSameState(mutableCube.snapshot(), SOLVED_CUBE.rotate(rotations));
+        assertThat(mutableCube.zobristHash(), is(PackedRubiksCube.of(new RubiksCubeImpl().rotate(rotations)).zobristHash()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomRotationsStream")
+    void should_return_to_initial_state_when_undoing_all_rotations(List<RubiksRotation> rotations) {
+        // setup
+        var mutableCube = SOLVED_CUBE.toMutable();
+        rotations.forEach(mutableCube::apply);
+        // exercise
+        var undoneRotations = IntStream.range(0, rotations.size()).mapToObj(i -> mutableCube.undo()).toList();
+        // verify
+        assertThat(undoneRotations, equalTo(rotations.reversed()));
+        assertThat(mutableCube.zobristHash(), is(new PackedRubiksCube().zobristHash()));
+        assertThat(mutableCube.depth(), is(0));
+        assertTrue(mutableCube.isSolved());
+    }
+
+    static Stream<List<RubiksRotation>> randomRotationsStream() {
+        var random = new Random(20231018L);
+        var rotations = RubiksRotation.values();
+        return IntStream.range(0, 20).mapToObj(i -> random.ints(60, 0, rotations.length).mapToObj(index -> rotations[index]).toList());
+    }
+
+    @Test
+    void should_keep_snapshot_unchanged_when_cube_is_mutated_afterwards() {
+        // setup
+        var mutableCube = SOLVED_CUBE.toMutable().apply(R);
+        // exercise
+        var snapshot = mutableCube.snapshot();
+        mutableCube.apply(U);
+        // verify
+        assertSameState(snapshot, SOLVED_CUBE.rotate(R));
+    }
+
+    @Test
+    void should_overwrite_state_and_clear_history_when_restoring() {
+        // setup
+        var mutableCube = SOLVED_CUBE.toMutable().apply(R).apply(U);
+        // exercise
+        mutableCube.restore(SOLVED_CUBE.rotate(U));
+        // verify
+        assertFalse(mutableCube.isSolved());
+        assertThat(mutableCube.depth(), is(0));
+        assertSameState(mutableCube.snapshot(), SOLVED_CUBE.rotate(U));
+    }
+
+    @Test
+    void should_fail_to_undo_when_history_is_empty() {
+        // setup
+        var mutableCube = SOLVED_CUBE.toMutable();
+        // exercise & verify
+        assertThrows(IllegalStateException.class, mutableCube::undo);
+    }
+
+    private static void assertSameState(RubiksCube actual, RubiksCube expected) {
+        for (var orientation : SpatialOrientation.values()) {
+            assertThat(actual.faces().at(orientation), equalTo(expected.faces().at(orientation)));
+        }
+    }
+}
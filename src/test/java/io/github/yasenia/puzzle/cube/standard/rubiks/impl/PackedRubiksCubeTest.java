@@ -0,0 +1,184 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.impl;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.D;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.R;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.R_2;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.R_P;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.U;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PackedRubiksCubeTest {
+
+    @Test
+    void should_be_solved_when_new_cube_is_created() {
+        // exercise
+        var cube = new PackedRubiksCube();
+        // verify
+        assertTrue(cube.isSolved());
+        assertSameState(cube, new RubiksCubeImpl());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RubiksRotation.class)
+    void should_match_reference_implementation_after_single_rotation(RubiksRotation rotation) {
+        // exercise
+        var packedCube = new PackedRubiksCube().rotate(rotation);
+        var referenceCube = new RubiksCubeImpl().rotate(rotation);
+        // verify
+        assertFalse(packedCube.isSolved());
+        assertSameState(packedCube, referenceCube);
+        assertTrue(packedCube.rotate(rotation.inverse()).isSolved());
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomRotationsStream")
+    void should_match_reference_implementation_after_random_rotations(List<RubiksRotation> rotations) {
+        // setup
+        RubiksCube packedCube = new PackedRubiksCube();
+        RubiksCube referenceCube = new RubiksCubeImpl();
+        for (var rotation : rotations) {
+            // exercise
+            packedCube = packedCube.rotate(rotation);
+            referenceCube = referenceCube.rotate(rotation);
+            // verify
+            assertSameState(packedCube, referenceCube);
+        }
+    }
+
+    static Stream<List<RubiksRotation>> randomRotationsStream() {
+        var random = new Random(20231016L);
+        var rotations = RubiksRotation.values();
+        return IntStream.range(0, 50).mapToObj(i -> random.ints(100, 0, rotations.length).mapToObj(index -> rotations[index]).toList());
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomRotationsStream")
+    void should_convert_from_any_cube_without_losing_state(List<RubiksRotation> rotations) {
+        // setup
+        var referenceCube = new RubiksCubeImpl().rotate(rotations);
+        // exercise
+        var packedCube = PackedRubiksCube.of(referenceCube);
+        // verify
+        assertSameState(packedCube, referenceCube);
+        assertThat(PackedRubiksCube.of(packedCube), sameInstance(packedCube));
+    }
+
+    @Test
+    void should_rotate_long_sequences_iteratively_in_every_encoding() {
+        // setup
+        var random = new Random(20231019L);
+        var ordinals = random.ints(10_000, 0, RubiksRotation.values().length).toArray();
+        var rotations = IntStream.of(ordinals).mapToObj(ordinal -> RubiksRotation.values()[ordinal]).toList();
+        RubiksCube expectedCube = new PackedRubiksCube();
+        for (var rotation : rotations) expectedCube = expectedCube.rotate(rotation);
+        // exercise
+        var rotatedByList = new RubiksCubeImpl().rotate(rotations);
+        var rotatedByArray = new RubiksCubeImpl().rotate(rotations.toArray(RubiksRotation[]::new));
+        var rotatedByStream = new RubiksCubeImpl().rotate(IntStream.of(ordinals));
+        // verify
+        assertSameState(rotatedByList, expectedCube);
+        assertSameState(rotatedByArray, expectedCube);
+        assertSameState(rotatedByStream, expectedCube);
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomRotationsStream")
+    void should_maintain_zobrist_hash_incrementally(List<RubiksRotation> rotations) {
+        // setup
+        RubiksCube packedCube = new PackedRubiksCube();
+        RubiksCube referenceCube = new RubiksCubeImpl();
+        for (var rotation : rotations) {
+            // exercise
+            packedCube = packedCube.rotate(rotation);
+            referenceCube = referenceCube.rotate(rotation);
+            // verify
+            var recomputedCube = PackedRubiksCube.of(referenceCube.faces());
+            assertThat(((PackedRubiksCube) packedCube).zobristHash(), is(recomputedCube.zobristHash()));
+            assertThat(((RubiksCubeImpl) referenceCube).zobristHash(), is(recomputedCube.zobristHash()));
+            assertThat(packedCube, equalTo(recomputedCube));
+            assertThat(packedCube, equalTo(referenceCube));
+            assertThat(referenceCube, equalTo(packedCube));
+            assertThat(packedCube.hashCode(), is(referenceCube.hashCode()));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RubiksRotation.class)
+    void should_detect_solved_faces_from_codes_as_facelets_do(RubiksRotation rotation) {
+        // setup
+        var referenceCube = new RubiksCubeImpl().rotate(rotation);
+        var packedCube = PackedRubiksCube.of(referenceCube);
+        for (var orientation : SpatialOrientation.values()) {
+            var face = packedCube.faces().at(orientation);
+            // exercise & verify
+            assertThat(face.isSolved(), is(Stream.of(face.facelets()).allMatch(face.center::equals)));
+            assertThat(referenceCube.faces().at(orientation).isSolved(), is(face.isSolved()));
+        }
+        assertFalse(packedCube.isSolved());
+        assertFalse(referenceCube.isSolved());
+        assertTrue(packedCube.rotate(rotation.inverse()).isSolved());
+        assertTrue(referenceCube.rotate(rotation.inverse()).isSolved());
+    }
+
+    @Test
+    void should_be_equal_when_different_rotations_reach_the_same_state() {
+        // setup
+        var cube = new PackedRubiksCube();
+        // exercise
+        var doubleTurned = cube.rotate(R).rotate(R);
+        var halfTurned = cube.rotate(R_2);
+        var commuted = cube.rotate(U).rotate(D);
+        // verify
+        assertThat(doubleTurned, equalTo(halfTurned));
+        assertThat(doubleTurned.hashCode(), is(halfTurned.hashCode()));
+        assertThat(commuted, equalTo(cube.rotate(D).rotate(U)));
+        assertThat(cube.rotate(R).rotate(R_P), equalTo(cube));
+        assertThat(doubleTurned, not(equalTo(commuted)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RubiksRotation.class)
+    void should_share_interned_faces_and_their_rows(RubiksRotation rotation) {
+        // setup
+        var cube = new PackedRubiksCube().rotate(rotation);
+        var referenceCube = new RubiksCubeImpl().rotate(rotation);
+        for (var orientation : SpatialOrientation.values()) {
+            // exercise
+            var face = cube.faces().at(orientation);
+            var sameFace = PackedRubiksCube.of(referenceCube).faces().at(orientation);
+            // verify
+            assertThat(sameFace, sameInstance(face));
+            assertThat(face.rows(), sameInstance(face.rows()));
+            assertThat(face.columns(), sameInstance(face.columns()));
+            assertThat(face.sides(), sameInstance(face.sides()));
+            assertThat(face, equalTo(referenceCube.faces().at(orientation)));
+            assertThat(referenceCube.faces().at(orientation), equalTo(face));
+            assertThat(face.rows(), equalTo(referenceCube.faces().at(orientation).rows()));
+        }
+    }
+
+    private static void assertSameState(RubiksCube actual, RubiksCube expected) {
+        for (var orientation : SpatialOrientation.values()) {
+            assertThat(actual.faces().at(orientation), equalTo(expected.faces().at(orientation)));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.impl;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+class RubiksCubeBatchTest {
+
+    @Test
+    void should_hold_solved_cubes_when_new_batch_is_created() {
+        // exercise
+        var batch = new RubiksCubeBatch(10);
+        // verify
+        assertThat(batch.countSolved(), is(10));
+        assertThat(batch.get(9), equalTo(new PackedRubiksCube()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RubiksRotation.class)
+    void should_rotate_every_cube_as_packed_cubes_do(RubiksRotation rotation) {
+        // setup
+        var cubes = randomCubes(100, 20231101L);
+        var batch = RubiksCubeBatch.of(cubes);
+        // exercise
+        batch.rotate(rotation);
+        // verify
+        for (int index = 0; index < cubes.size(); index++) {
+            assertThat(batch.get(index), equalTo(cubes.get(index).rotate(rotation)));
+        }
+    }
+
+    @Test
+    void should_rotate_large_batch_in_parallel_as_sequentially() {
+        // setup
+        var cubes = randomCubes(10_000, 20231102L);
+        var rotations = randomRotations(30, 20231103L);
+        var sequentialBatch = RubiksCubeBatch.of(cubes);
+        var parallelBatch = RubiksCubeBatch.of(cubes).parallel();
+        // exercise
+        rotations.forEach(sequentialBatch::rotate);
+        parallelBatch.rotate(rotations);
+        // verify
+        for (int index = 0; index < cubes.size(); index++) {
+            assertThat(parallelBatch.get(index), equalTo(sequentialBatch.get(index)));
+            assertThat(parallelBatch.get(index), equalTo(cubes.get(index).rotate(rotations)));
+        }
+    }
+
+    @Test
+    void should_count_cubes_solved_by_their_solutions() {
+        // setup
+        var scramble = randomRotations(25, 20231104L);
+        var solution = scramble.reversed().stream().map(RubiksRotation::inverse).toList();
+        var batch = RubiksCubeBatch.of(List.of(new PackedRubiksCube().rotate(scramble), new PackedRubiksCube().rotate(RubiksRotation.R)));
+        // exercise
+        batch.rotate(solution);
+        // verify
+        assertThat(batch.isSolved(0), is(true));
+        assertThat(batch.isSolved(1), is(false));
+        assertThat(batch.countSolved(), is(1));
+    }
+
+    private static List<RubiksCube> randomCubes(int count, long seed) {
+        var random = new Random(seed);
+        return IntStream.range(0, count).mapToObj(i -> new PackedRubiksCube().rotate(randomRotations(20, random.nextLong()))).toList();
+    }
+
+    private static List<RubiksRotation> randomRotations(int count, long seed) {
+        var rotations = RubiksRotation.values();
+        return new Random(seed).ints(count, 0, rotations.length).mapToObj(index -> rotations[index]).toList();
+    }
+}
@@ -48,6 +48,23 @@ class RubiksCubeImplTest {
         assertTrue(cube.isSolved());
     }
 
+    @Test
+    void should_read_facelets_by_position_without_sharing_facelet_array() {
+        // setup
+        var cube = new RubiksCubeImpl().rotate(R).rotate(U);
+        for (var orientation : SpatialOrientation.values()) {
+            var face = cube.faces().at(orientation);
+            // exercise
+            var facelets = face.facelets();
+            facelets[0] = null;
+            // verify
+            assertThat(face.facelets()[0], equalTo(face.leftTop));
+            for (int position = 1; position < facelets.length; position++) {
+                assertThat(face.facelet(position), equalTo(facelets[position]));
+            }
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("singleRotationStream")
     void should_return_to_solved_state_after_single_rotation_and_its_inverse(RubiksRotation rotation) {
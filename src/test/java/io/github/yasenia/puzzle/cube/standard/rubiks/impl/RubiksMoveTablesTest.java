@@ -0,0 +1,71 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.impl;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksFacelet;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.github.yasenia.puzzle.cube.standard.rubiks.impl.RubiksMoveTables.FACELET_COUNT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class RubiksMoveTablesTest {
+
+    @ParameterizedTest
+    @EnumSource(RubiksRotation.class)
+    void should_be_a_permutation_of_all_facelets(RubiksRotation rotation) {
+        // exercise
+        var permutation = RubiksMoveTables.permutation(rotation);
+        // verify
+        assertThat(IntStream.of(permutation).sorted().toArray(), equalTo(IntStream.range(0, FACELET_COUNT).toArray()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RubiksRotation.class)
+    void should_restore_identity_after_rotation_and_its_inverse(RubiksRotation rotation) {
+        // setup
+        var identity = IntStream.range(0, FACELET_COUNT).toArray();
+        var rotated = new int[FACELET_COUNT];
+        var restored = new int[FACELET_COUNT];
+        // exercise
+        RubiksMoveTables.apply(rotation, identity, rotated);
+        RubiksMoveTables.apply(rotation.inverse(), rotated, restored);
+        // verify
+        assertThat(restored, equalTo(identity));
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomRotationsStream")
+    void should_match_reference_implementation_after_random_rotations(List<RubiksRotation> rotations) {
+        // setup
+        RubiksCube referenceCube = new RubiksCubeImpl();
+        var facelets = faceletsOf(referenceCube);
+        for (var rotation : rotations) {
+            // exercise
+            var rotatedFacelets = new RubiksFacelet[FACELET_COUNT];
+            RubiksMoveTables.apply(rotation, facelets, rotatedFacelets);
+            facelets = rotatedFacelets;
+            referenceCube = referenceCube.rotate(rotation);
+            // verify
+            assertThat(facelets, equalTo(faceletsOf(referenceCube)));
+        }
+    }
+
+    static Stream<List<RubiksRotation>> randomRotationsStream() {
+        var random = new Random(20231017L);
+        var rotations = RubiksRotation.values();
+        return IntStream.range(0, 20).mapToObj(i -> random.ints(50, 0, rotations.length).mapToObj(index -> rotations[index]).toList());
+    }
+
+    private static RubiksFacelet[] faceletsOf(RubiksCube cube) {
+        return Stream.of(SpatialOrientation.values()).flatMap(orientation -> Stream.of(cube.faces().at(orientation).facelets())).toArray(RubiksFacelet[]::new);
+    }
+}
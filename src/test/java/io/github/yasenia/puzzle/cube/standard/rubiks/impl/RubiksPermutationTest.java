@@ -0,0 +1,131 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.impl;
+
+import io.github.yasenia.puzzle.cube.standard.geometric.orientation.SpatialOrientation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube.SOLVED_CUBE;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.D;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.F;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.F_P;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.R;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.R_2;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.R_P;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.U;
+import static io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation.U_P;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RubiksPermutationTest {
+
+    @ParameterizedTest
+    @MethodSource("randomRotationsStream")
+    void should_match_rotations_when_applying_compiled_permutation(List<RubiksRotation> rotations) {
+        // setup
+        var scrambledCube = SOLVED_CUBE.rotate(List.of(F, R, U_P, D));
+        // exercise
+        var permutedCube = RubiksPermutation.compile(rotations).applyTo(scrambledCube);
+        // verify
+        assertSameState(permutedCube, scrambledCube.rotate(rotations));
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomRotationsStream")
+    void should_match_compiled_concatenation_when_composing(List<RubiksRotation> rotations) {
+        // setup
+        var half = rotations.size() / 2;
+        var first = RubiksPermutation.compile(rotations.subList(0, half));
+        var second = RubiksPermutation.compile(rotations.subList(half, rotations.size()));
+        // exercise
+        var composed = first.compose(second);
+        // verify
+        assertThat(composed, equalTo(RubiksPermutation.compile(rotations)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomRotationsStream")
+    void should_restore_identity_when_composing_with_inverse(List<RubiksRotation> rotations) {
+        // setup
+        var permutation = RubiksPermutation.compile(rotations);
+        // exercise
+        var inverse = permutation.inverse();
+        // verify
+        assertThat(permutation.compose(inverse), equalTo(RubiksPermutation.IDENTITY));
+        assertThat(inverse, equalTo(RubiksPermutation.compile(rotations.reversed().stream().map(RubiksRotation::inverse).toList())));
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomRotationsStream")
+    void should_match_repeated_composition_when_raising_to_power(List<RubiksRotation> rotations) {
+        // setup
+        var permutation = RubiksPermutation.compile(rotations);
+        var repeated = RubiksPermutation.IDENTITY;
+        for (int exponent = 0; exponent < 7; exponent++) {
+            // exercise & verify
+            assertThat(permutation.pow(exponent), equalTo(repeated));
+            assertThat(permutation.pow(-exponent), equalTo(repeated.inverse()));
+            repeated = repeated.compose(permutation);
+        }
+        assertThat(permutation.pow(permutation.order()), equalTo(RubiksPermutation.IDENTITY));
+    }
+
+    static Stream<List<RubiksRotation>> randomRotationsStream() {
+        var random = new Random(20231020L);
+        var rotations = RubiksRotation.values();
+        return IntStream.range(0, 20).mapToObj(i -> random.ints(40, 0, rotations.length).mapToObj(index -> rotations[index]).toList());
+    }
+
+    @ParameterizedTest
+    @MethodSource("algorithmsWithOrders")
+    void should_compute_order_of_algorithm_matching_repeated_rotations(List<RubiksRotation> algorithm, int expectedOrder) {
+        // exercise
+        var order = RubiksPermutation.compile(algorithm).order();
+        // verify
+        assertThat(order, is(expectedOrder));
+        RubiksCube cube = SOLVED_CUBE;
+        for (int i = 1; i < order; i++) {
+            cube = cube.rotate(algorithm);
+            assertFalse(cube.isSolved());
+        }
+        assertTrue(cube.rotate(algorithm).isSolved());
+    }
+
+    static Stream<Arguments> algorithmsWithOrders() {
+        return Stream.of(
+            Arguments.of(List.of(R), 4),
+            Arguments.of(List.of(R_2), 2),
+            Arguments.of(List.of(R, U, R_P, U_P), 6),
+            Arguments.of(List.of(R, U), 105),
+            Arguments.of(List.of(R, U, R_P, U_P, R_P, F, R, F_P), 3)
+        );
+    }
+
+    @Test
+    void should_leave_cube_unchanged_when_applying_identity() {
+        // setup
+        var cube = SOLVED_CUBE.rotate(List.of(R, U));
+        // exercise
+        var permutedCube = RubiksPermutation.IDENTITY.applyTo(cube);
+        // verify
+        assertSameState(permutedCube, cube);
+        assertThat(RubiksPermutation.IDENTITY.order(), is(1));
+    }
+
+    private static void assertSameState(RubiksCube actual, RubiksCube expected) {
+        for (var orientation : SpatialOrientation.values()) {
+            assertThat(actual.faces().at(orientation), equalTo(expected.faces().at(orientation)));
+        }
+    }
+}
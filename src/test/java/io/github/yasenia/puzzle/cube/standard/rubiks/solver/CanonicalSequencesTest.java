@@ -0,0 +1,73 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+class CanonicalSequencesTest {
+
+    @Test
+    void should_forbid_same_face_twice_in_a_row() {
+        // exercise & verify
+        assertThat(CanonicalSequences.isCanonical(List.of(RubiksRotation.U, RubiksRotation.U_P)), is(false));
+        assertThat(CanonicalSequences.isCanonical(List.of(RubiksRotation.U, RubiksRotation.U)), is(false));
+        assertThat(CanonicalSequences.isCanonical(List.of(RubiksRotation.U, RubiksRotation.R, RubiksRotation.U_2)), is(true));
+    }
+
+    @Test
+    void should_enforce_fixed_order_of_opposite_faces() {
+        // exercise & verify
+        assertThat(CanonicalSequences.isCanonical(List.of(RubiksRotation.U, RubiksRotation.D_P)), is(true));
+        assertThat(CanonicalSequences.isCanonical(List.of(RubiksRotation.D_P, RubiksRotation.U)), is(false));
+        assertThat(CanonicalSequences.isCanonical(List.of(RubiksRotation.D, RubiksRotation.U, RubiksRotation.D)), is(false));
+    }
+
+    @Test
+    void should_list_canonical_successors() {
+        // exercise
+        var afterUp = CanonicalSequences.successors(RubiksRotation.U);
+        var afterDown = CanonicalSequences.successors(RubiksRotation.D_2);
+        // verify
+        assertThat(afterUp, hasSize(15));
+        assertThat(afterUp, hasItem(RubiksRotation.D_P));
+        assertThat(afterDown, hasSize(12));
+        assertThat(afterDown, not(hasItem(RubiksRotation.U)));
+        assertThat(CanonicalSequences.successors(-1).length, is(OptimalSolver.ROTATION_COUNT));
+    }
+
+    @Test
+    void should_grow_canonical_sequences_by_about_13_35_per_rotation() {
+        // setup
+        var counts = new long[OptimalSolver.ROTATION_COUNT];
+        for (var first : CanonicalSequences.successors(-1)) {
+            counts[first]++;
+        }
+        var previousTotal = 0L;
+        var total = 0L;
+        // exercise
+        for (int length = 2; length <= 12; length++) {
+            var next = new long[OptimalSolver.ROTATION_COUNT];
+            for (int previous = 0; previous < OptimalSolver.ROTATION_COUNT; previous++) {
+                for (var rotation : CanonicalSequences.successors(previous)) {
+                    next[rotation] += counts[previous];
+                }
+            }
+            counts = next;
+            previousTotal = total;
+            total = 0;
+            for (var count : counts) {
+                total += count;
+            }
+        }
+        // verify
+        assertThat((double) total / previousTotal, closeTo(13.348, 0.001));
+    }
+}
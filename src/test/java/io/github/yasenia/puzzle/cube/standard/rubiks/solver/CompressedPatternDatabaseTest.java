@@ -0,0 +1,86 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieMoveTables;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.IntBinaryOperator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class CompressedPatternDatabaseTest {
+
+    private static final int SIZE = CubieCoordinates.CORNER_ORIENTATIONS * CubieCoordinates.EDGE_ORIENTATIONS;
+    private static final IntBinaryOperator MOVE = (index, rotation) ->
+        CubieMoveTables.moveCornerOrientation(index / CubieCoordinates.EDGE_ORIENTATIONS, RubiksRotation.values()[rotation]) * CubieCoordinates.EDGE_ORIENTATIONS
+            + CubieMoveTables.moveEdgeOrientation(index % CubieCoordinates.EDGE_ORIENTATIONS, RubiksRotation.values()[rotation]);
+    private static final PatternDatabase.StateMove STATE_MOVE = (index, rotation) -> MOVE.applyAsInt((int) index, rotation);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void should_recover_exact_distances_from_neighbor_distances() {
+        // setup
+        var database = PatternDatabase.generate(SIZE, 0, MOVE, PatternDatabase.MAXIMUM_DEPTH);
+        // exercise
+        var compressed = CompressedPatternDatabase.of(database, 0, PatternDatabase.MAXIMUM_DEPTH);
+        // verify
+        for (int index = 0; index < SIZE; index += 7) {
+            for (int rotation = 0; rotation < OptimalSolver.ROTATION_COUNT; rotation++) {
+                var neighbor = MOVE.applyAsInt(index, rotation);
+                assertThat(compressed.distance(neighbor, database.distance(index)), is(database.distance(neighbor)));
+            }
+        }
+    }
+
+    @Test
+    void should_recover_exact_distances_by_descending_to_solved_state() {
+        // setup
+        var database = PatternDatabase.generate(SIZE, 0, MOVE, PatternDatabase.MAXIMUM_DEPTH);
+        // exercise
+        var compressed = CompressedPatternDatabase.of(database, 0, PatternDatabase.MAXIMUM_DEPTH);
+        // verify
+        for (int index = 0; index < SIZE; index += 101) {
+            assertThat(compressed.distance(index, STATE_MOVE), is(database.distance(index)));
+        }
+    }
+
+    @Test
+    void should_recover_distances_beyond_maximum_depth_as_horizon() {
+        // setup
+        var database = PatternDatabase.generate(SIZE, 0, MOVE, 4);
+        // exercise
+        var compressed = CompressedPatternDatabase.of(database, 0, 4);
+        // verify
+        for (int index = 0; index < SIZE; index += 101) {
+            assertThat(compressed.distance(index, STATE_MOVE), is(database.distance(index)));
+            var neighbor = MOVE.applyAsInt(index, RubiksRotation.R.ordinal());
+            assertThat(compressed.distance(neighbor, database.distance(index)), is(database.distance(neighbor)));
+        }
+    }
+
+    @Test
+    void should_load_compressed_database_from_quarter_byte_per_state_file() throws IOException {
+        // setup
+        var file = this.directory.resolve("twist-flips.table");
+        var fingerprint = TableFile.fingerprint("twist-flips", 1);
+        var database = PatternDatabase.generate(SIZE, 0, MOVE, PatternDatabase.MAXIMUM_DEPTH);
+        CompressedPatternDatabase.load(file, fingerprint, SIZE, 0, PatternDatabase.MAXIMUM_DEPTH, () -> database);
+        // exercise
+        var loaded = CompressedPatternDatabase.load(file, fingerprint, SIZE, 0, PatternDatabase.MAXIMUM_DEPTH, () -> {
+            throw new AssertionError("Database should be mapped from its table file");
+        });
+        // verify
+        assertThat(Files.size(file), is(64L + SIZE / 4));
+        for (int index = 0; index < SIZE; index += 101) {
+            assertThat(loaded.distance(index, STATE_MOVE), is(database.distance(index)));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.RubiksCubies;
+import io.github.yasenia.puzzle.cube.standard.rubiks.impl.PackedRubiksCube;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OptimalSolverTest {
+
+    private static final KorfDatabases DATABASES = KorfDatabases.generate(5);
+
+    @Test
+    void should_solve_solved_cube_with_no_rotation() {
+        // exercise
+        var solution = new OptimalSolver(DATABASES).solve(new PackedRubiksCube());
+        // verify
+        assertThat(solution, equalTo(List.of()));
+    }
+
+    @Test
+    void should_find_shortest_solutions_of_scrambles() {
+        // setup
+        var solver = new OptimalSolver(DATABASES);
+        var random = new Random(20231501L);
+        for (int sample = 0; sample < 20; sample++) {
+            var scramble = randomScramble(random, 1 + sample % 6);
+            RubiksCube cube = new PackedRubiksCube().rotate(scramble);
+            // exercise
+            var solution = solver.solve(cube);
+            // verify
+            assertThat(cube.rotate(solution).isSolved(), is(true));
+            assertThat(solution.size(), is(shortestLength(cube, scramble.size())));
+        }
+    }
+
+    @Test
+    void should_reject_unsolvable_cube() {
+        // setup
+        var cube = RubiksCubies.of(1, 0, 0, 0).toCube();
+        // exercise & verify
+        assertThrows(IllegalArgumentException.class, () -> new OptimalSolver(DATABASES).solve(cube));
+    }
+
+    private static List<RubiksRotation> randomScramble(Random random, int length) {
+        var scramble = new ArrayList<RubiksRotation>();
+        while (scramble.size() < length) {
+            var rotation = RubiksRotation.values()[random.nextInt(OptimalSolver.ROTATION_COUNT)];
+            if (!scramble.isEmpty() && scramble.get(scramble.size() - 1).orientation() == rotation.orientation()) continue;
+            scramble.add(rotation);
+        }
+        return scramble;
+    }
+
+    private static int shortestLength(RubiksCube cube, int maximumLength) {
+        // Plain iterative deepening over cubie states, which is only fast enough for short scrambles.
+        var cubies = RubiksCubies.of(cube);
+        for (int length = 0; length < maximumLength; length++) {
+            if (isSolvableWithin(cubies, length)) return length;
+        }
+        return maximumLength;
+    }
+
+    private static boolean isSolvableWithin(RubiksCubies cubies, int length) {
+        if (cubies.equals(RubiksCubies.SOLVED)) return true;
+        if (length == 0) return false;
+        for (var rotation : RubiksRotation.values()) {
+            if (isSolvableWithin(cubies.rotate(rotation), length - 1)) return true;
+        }
+        return false;
+    }
+}
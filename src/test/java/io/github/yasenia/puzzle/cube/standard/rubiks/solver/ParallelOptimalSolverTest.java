@@ -0,0 +1,64 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.RubiksCubies;
+import io.github.yasenia.puzzle.cube.standard.rubiks.impl.PackedRubiksCube;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelOptimalSolverTest {
+
+    private static final KorfDatabases DATABASES = KorfDatabases.generate(5);
+
+    @Test
+    void should_solve_solved_cube_with_no_rotation() {
+        // exercise
+        var solution = new ParallelOptimalSolver(DATABASES).solve(new PackedRubiksCube());
+        // verify
+        assertThat(solution, equalTo(List.of()));
+    }
+
+    @Test
+    void should_find_solutions_as_short_as_sequential_solver_at_any_split_depth() {
+        // setup
+        var pool = new ForkJoinPool(4);
+        var sequential = new OptimalSolver(DATABASES);
+        var random = new Random(20231701L);
+        for (int sample = 0; sample < 15; sample++) {
+            RubiksCube cube = new PackedRubiksCube();
+            for (int step = 0; step < 1 + sample % 7; step++) {
+                cube = cube.rotate(RubiksRotation.values()[random.nextInt(OptimalSolver.ROTATION_COUNT)]);
+            }
+            var solver = new ParallelOptimalSolver(DATABASES, sample % 5, pool);
+            // exercise
+            var solution = solver.solve(cube);
+            // verify
+            assertThat(cube.rotate(solution).isSolved(), is(true));
+            assertThat(solution.size(), is(sequential.solve(cube).size()));
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    void should_reject_unsolvable_cube() {
+        // setup
+        var cube = RubiksCubies.of(1, 0, 0, 0).toCube();
+        // exercise & verify
+        assertThrows(IllegalArgumentException.class, () -> new ParallelOptimalSolver(DATABASES).solve(cube));
+    }
+
+    @Test
+    void should_reject_negative_split_depth() {
+        // exercise & verify
+        assertThrows(IllegalArgumentException.class, () -> new ParallelOptimalSolver(DATABASES, -1, ForkJoinPool.commonPool()));
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieMoveTables;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.RubiksCubies;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class PatternDatabaseTest {
+
+    @Test
+    void should_store_exact_distances_of_corner_orientations() {
+        // exercise
+        var database = PatternDatabase.generate(CubieCoordinates.CORNER_ORIENTATIONS, 0,
+            (index, rotation) -> CubieMoveTables.moveCornerOrientation(index, RubiksRotation.values()[rotation]), PatternDatabase.MAXIMUM_DEPTH);
+        // verify
+        assertThat(database.distance(0), is(0));
+        assertThat(database.distance(RubiksCubies.of(RubiksRotation.F).cornerOrientation()), is(1));
+        assertThat(database.distance(RubiksCubies.of(RubiksRotation.F).rotate(RubiksRotation.R).cornerOrientation()), is(2));
+        var maximum = 0;
+        for (int index = 0; index < database.size(); index++) {
+            maximum = Math.max(maximum, database.distance(index));
+            for (int rotation = 0; rotation < OptimalSolver.ROTATION_COUNT; rotation++) {
+                var next = CubieMoveTables.moveCornerOrientation(index, RubiksRotation.values()[rotation]);
+                assertThat(Math.abs(database.distance(index) - database.distance(next)), lessThanOrEqualTo(1));
+            }
+        }
+        assertThat(maximum, is(6));
+    }
+
+    @Test
+    void should_bound_distances_beyond_maximum_depth() {
+        // exercise
+        var database = PatternDatabase.generate(CubieCoordinates.CORNER_ORIENTATIONS, 0,
+            (index, rotation) -> CubieMoveTables.moveCornerOrientation(index, RubiksRotation.values()[rotation]), 2);
+        // verify
+        var deepest = 0;
+        for (int index = 0; index < database.size(); index++) {
+            deepest = Math.max(deepest, database.distance(index));
+        }
+        assertThat(deepest, is(3));
+    }
+
+    @Test
+    void should_generate_same_distances_as_sequential_breadth_first_search_and_report_each_depth() {
+        // setup
+        var size = CubieCoordinates.CORNER_ORIENTATIONS * CubieCoordinates.EDGE_ORIENTATIONS;
+        IntBinaryOperator move = (index, rotation) -> CubieMoveTables.moveCornerOrientation(index / CubieCoordinates.EDGE_ORIENTATIONS, RubiksRotation.values()[rotation])
+            * CubieCoordinates.EDGE_ORIENTATIONS + CubieMoveTables.moveEdgeOrientation(index % CubieCoordinates.EDGE_ORIENTATIONS, RubiksRotation.values()[rotation]);
+        var expected = new int[size];
+        Arrays.fill(expected, -1);
+        expected[0] = 0;
+        var queue = new int[size];
+        for (int head = 0, tail = 1; head < tail; head++) {
+            for (int rotation = 0; rotation < OptimalSolver.ROTATION_COUNT; rotation++) {
+                var next = move.applyAsInt(queue[head], rotation);
+                if (expected[next] >= 0) continue;
+                expected[next] = expected[queue[head]] + 1;
+                queue[tail++] = next;
+            }
+        }
+        var reported = new ArrayList<Long>();
+        // exercise
+        var database = PatternDatabase.generate(size, 0, move, IntStream.range(0, OptimalSolver.ROTATION_COUNT).toArray(), PatternDatabase.MAXIMUM_DEPTH,
+            (depth, states, visitedStates) -> reported.add(visitedStates));
+        // verify
+        for (int index = 0; index < size; index++) {
+            assertThat(database.distance(index), is(expected[index]));
+        }
+        for (int depth = 0; depth < reported.size(); depth++) {
+            var finalDepth = depth;
+            assertThat(reported.get(depth), is(Arrays.stream(expected).filter(distance -> distance <= finalDepth).count()));
+        }
+        assertThat(reported.get(reported.size() - 1), is((long) size));
+    }
+
+    @Test
+    void should_move_edge_pattern_as_cubies_move() {
+        // setup
+        var random = new Random(20231401L);
+        var cubies = RubiksCubies.SOLVED;
+        for (int step = 0; step < 200; step++) {
+            var rotation = RubiksRotation.values()[random.nextInt(OptimalSolver.ROTATION_COUNT)];
+            // exercise
+            var rotated = cubies.rotate(rotation);
+            // verify
+            for (var firstEdge : new int[] {0, KorfDatabases.SECOND_GROUP_FIRST_EDGE}) {
+                var index = EdgePattern.move(edgeIndex(cubies, firstEdge), rotation.ordinal());
+                assertThat(index, is(edgeIndex(rotated, firstEdge)));
+                assertThat(index < EdgePattern.SIZE, is(true));
+                assertThat(EdgePattern.moveState(EdgePattern.state(cubies, firstEdge), rotation.ordinal()), is(EdgePattern.state(rotated, firstEdge)));
+            }
+            cubies = rotated;
+        }
+    }
+
+    private static int edgeIndex(RubiksCubies cubies, int firstEdge) {
+        return EdgePattern.index(EdgePattern.state(cubies, firstEdge));
+    }
+}
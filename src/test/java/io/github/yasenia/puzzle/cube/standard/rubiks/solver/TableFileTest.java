@@ -0,0 +1,163 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieCoordinates;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.CubieMoveTables;
+import io.github.yasenia.puzzle.cube.standard.rubiks.impl.PackedRubiksCube;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class TableFileTest {
+
+    private static final long FINGERPRINT = TableFile.fingerprint("test", 1);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void should_build_and_write_missing_table_then_map_it() throws IOException {
+        // setup
+        var file = this.directory.resolve("test.table");
+        var builds = new AtomicInteger();
+        // exercise
+        var built = TableFile.map(file, FINGERPRINT, 4, counting(builds));
+        var mapped = TableFile.map(file, FINGERPRINT, 4, counting(builds));
+        // verify
+        assertThat(builds.get(), is(1));
+        assertThat(Files.size(file), is(68L));
+        assertThat(built.length(), is(4L));
+        assertThat(mapped.segment(0).isReadOnly(), is(true));
+        assertThat(mapped.segment(0).getInt(0), is(0x0403_0201));
+    }
+
+    @Test
+    void should_rebuild_table_when_fingerprint_changed() throws IOException {
+        // setup
+        var file = this.directory.resolve("test.table");
+        var builds = new AtomicInteger();
+        TableFile.map(file, FINGERPRINT, 4, counting(builds));
+        // exercise
+        TableFile.map(file, TableFile.fingerprint("test", 2), 4, counting(builds));
+        TableFile.map(file, TableFile.fingerprint("test", 2), 4, counting(builds));
+        // verify
+        assertThat(builds.get(), is(2));
+    }
+
+    @Test
+    void should_rebuild_table_when_checksum_does_not_match() throws IOException {
+        // setup
+        var file = this.directory.resolve("test.table");
+        var builds = new AtomicInteger();
+        TableFile.map(file, FINGERPRINT, 4, counting(builds));
+        var content = Files.readAllBytes(file);
+        content[content.length - 1] ^= 1;
+        Files.write(file, content);
+        // exercise
+        var mapped = TableFile.map(file, FINGERPRINT, 4, counting(builds));
+        // verify
+        assertThat(builds.get(), is(2));
+        assertThat(mapped.get(3), is((byte) 4));
+    }
+
+    @Test
+    void should_write_and_map_table_spanning_several_segments() throws IOException {
+        // setup
+        var file = this.directory.resolve("test.table");
+        var builds = new AtomicInteger();
+        Supplier<TableMemory> builder = () -> {
+            builds.incrementAndGet();
+            var table = TableMemory.allocate(100, 4);
+            for (long index = 0; index < table.length(); index++) {
+                table.put(index, (byte) (index * 7));
+            }
+            return table;
+        };
+        // exercise
+        var mapped = TableFile.map(file, FINGERPRINT, 100, builder, 4);
+        var remapped = TableFile.map(file, FINGERPRINT, 100, builder, 5);
+        var whole = TableFile.map(file, FINGERPRINT, 100, builder);
+        // verify
+        assertThat(builds.get(), is(1));
+        assertThat(Files.size(file), is(164L));
+        assertThat(mapped.segmentCount(), is(7));
+        assertThat(remapped.segmentCount(), is(4));
+        assertThat(whole.segmentCount(), is(1));
+        for (long index = 0; index < 100; index++) {
+            assertThat(mapped.get(index), is((byte) (index * 7)));
+            assertThat(remapped.get(index), is((byte) (index * 7)));
+            assertThat(whole.get(index), is((byte) (index * 7)));
+        }
+    }
+
+    @Test
+    void should_rebuild_table_when_checksum_of_later_segment_does_not_match() throws IOException {
+        // setup
+        var file = this.directory.resolve("test.table");
+        var builds = new AtomicInteger();
+        Supplier<TableMemory> builder = () -> {
+            builds.incrementAndGet();
+            var table = TableMemory.allocate(100, 4);
+            table.put(99, (byte) 1);
+            return table;
+        };
+        TableFile.map(file, FINGERPRINT, 100, builder, 4);
+        var content = Files.readAllBytes(file);
+        content[content.length - 20] ^= 1;
+        Files.write(file, content);
+        // exercise
+        var mapped = TableFile.map(file, FINGERPRINT, 100, builder, 4);
+        // verify
+        assertThat(builds.get(), is(2));
+        assertThat(mapped.get(80), is((byte) 0));
+        assertThat(mapped.get(99), is((byte) 1));
+    }
+
+    @Test
+    void should_load_pattern_database_with_same_distances_as_generated() {
+        // setup
+        var file = this.directory.resolve("corner-orientations.table");
+        Supplier<PatternDatabase> generator = () -> PatternDatabase.generate(CubieCoordinates.CORNER_ORIENTATIONS, 0,
+            (index, rotation) -> CubieMoveTables.moveCornerOrientation(index, RubiksRotation.values()[rotation]), PatternDatabase.MAXIMUM_DEPTH);
+        var generated = generator.get();
+        PatternDatabase.load(file, FINGERPRINT, CubieCoordinates.CORNER_ORIENTATIONS, generator);
+        // exercise
+        var loaded = PatternDatabase.load(file, FINGERPRINT, CubieCoordinates.CORNER_ORIENTATIONS, () -> {
+            throw new AssertionError("Database should be mapped from its table file");
+        });
+        // verify
+        for (int index = 0; index < CubieCoordinates.CORNER_ORIENTATIONS; index++) {
+            assertThat(loaded.distance(index), is(generated.distance(index)));
+        }
+    }
+
+    @Test
+    void should_solve_with_two_phase_tables_loaded_from_files() {
+        // setup
+        var cube = new PackedRubiksCube().rotate(List.of(RubiksRotation.R, RubiksRotation.F_P, RubiksRotation.D_2));
+        TwoPhaseTables.load(this.directory);
+        // exercise
+        var solution = new TwoPhaseSolver(TwoPhaseTables.load(this.directory), 3, Duration.ofSeconds(10)).solve(cube);
+        // verify
+        assertThat(cube.rotate(solution).isSolved(), is(true));
+        assertThat(solution.size(), is(3));
+    }
+
+    private static Supplier<TableMemory> counting(AtomicInteger builds) {
+        return () -> {
+            builds.incrementAndGet();
+            return TableMemory.wrap(ByteBuffer.wrap(new byte[] {1, 2, 3, 4}));
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class TableMemoryTest {
+
+    private static final int SEGMENT_SHIFT = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void should_allocate_zeroed_off_heap_memory() {
+        // exercise
+        var memory = TableMemory.allocate(100);
+        // verify
+        assertThat(memory.length(), is(100L));
+        assertThat(memory.segment(0).isDirect(), is(true));
+        for (long index = 0; index < memory.length(); index++) {
+            assertThat(memory.get(index), is((byte) 0));
+        }
+    }
+
+    @Test
+    void should_see_bytes_as_little_endian_words() {
+        // setup
+        var memory = TableMemory.allocate(16);
+        // exercise
+        memory.put(8, (byte) 0x01);
+        memory.put(15, (byte) 0x80);
+        // verify
+        assertThat(memory.getWord(0), is(0L));
+        assertThat(memory.getWord(1), is(0x8000_0000_0000_0001L));
+    }
+
+    @Test
+    void should_update_word_only_if_it_holds_expected_value() {
+        // setup
+        var memory = TableMemory.allocate(8);
+        // exercise
+        var missed = memory.compareAndExchangeWord(0, 1L, 2L);
+        var updated = memory.compareAndExchangeWord(0, 0L, 0x0102L);
+        // verify
+        assertThat(missed, is(0L));
+        assertThat(updated, is(0L));
+        assertThat(memory.get(0), is((byte) 0x02));
+        assertThat(memory.get(1), is((byte) 0x01));
+    }
+
+    @Test
+    void should_wrap_buffer_from_its_position_to_its_limit() {
+        // setup
+        var buffer = ByteBuffer.wrap(new byte[] {1, 2, 3, 4}).position(1).limit(3);
+        // exercise
+        var memory = TableMemory.wrap(buffer);
+        // verify
+        assertThat(memory.length(), is(2L));
+        assertThat(memory.get(0), is((byte) 2));
+        assertThat(memory.get(1), is((byte) 3));
+    }
+
+    @Test
+    void should_index_bytes_across_segment_boundaries() {
+        // setup
+        var memory = TableMemory.allocate(40, SEGMENT_SHIFT);
+        // exercise
+        for (long index = 0; index < memory.length(); index++) {
+            memory.put(index, (byte) index);
+        }
+        // verify
+        assertThat(memory.segmentCount(), is(3));
+        assertThat(memory.segment(2).capacity(), is(8));
+        for (long index = 0; index < memory.length(); index++) {
+            assertThat(memory.get(index), is((byte) index));
+        }
+    }
+
+    @Test
+    void should_see_words_of_every_segment() {
+        // setup
+        var memory = TableMemory.allocate(40, SEGMENT_SHIFT);
+        // exercise
+        memory.putWord(1, 0x0102L);
+        memory.putWord(2, 0x0304L);
+        var updated = memory.compareAndExchangeWord(4, 0L, 0x0506L);
+        // verify
+        assertThat(updated, is(0L));
+        assertThat(memory.get(8), is((byte) 0x02));
+        assertThat(memory.get(16), is((byte) 0x04));
+        assertThat(memory.get(17), is((byte) 0x03));
+        assertThat(memory.getWord(4), is(0x0506L));
+        assertThat(memory.segment(2).get(0), is((byte) 0x06));
+    }
+
+    @Test
+    void should_map_file_by_segments() throws IOException {
+        // setup
+        var content = new byte[43];
+        for (int index = 0; index < content.length; index++) {
+            content[index] = (byte) index;
+        }
+        var file = Files.write(this.directory.resolve("test.table"), content);
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // exercise
+            var memory = TableMemory.map(channel, 3, 40, FileChannel.MapMode.READ_ONLY, SEGMENT_SHIFT);
+            // verify
+            assertThat(memory.segmentCount(), is(3));
+            for (long index = 0; index < memory.length(); index++) {
+                assertThat(memory.get(index), is((byte) (index + 3)));
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.yasenia.puzzle.cube.standard.rubiks.solver;
+
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksCube;
+import io.github.yasenia.puzzle.cube.standard.rubiks.RubiksRotation;
+import io.github.yasenia.puzzle.cube.standard.rubiks.cubie.RubiksCubies;
+import io.github.yasenia.puzzle.cube.standard.rubiks.impl.PackedRubiksCube;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TwoPhaseSolverTest {
+
+    @Test
+    void should_solve_solved_cube_with_no_rotation() {
+        // exercise
+        var solution = new TwoPhaseSolver().solve(new PackedRubiksCube());
+        // verify
+        assertThat(solution, equalTo(List.of()));
+    }
+
+    @Test
+    void should_solve_random_cubes_within_target_length() {
+        // setup
+        var solver = new TwoPhaseSolver(22, Duration.ofSeconds(10));
+        var random = new Random(20231601L);
+        for (int sample = 0; sample < 20; sample++) {
+            RubiksCube cube = new PackedRubiksCube();
+            for (int step = 0; step < 40; step++) {
+                cube = cube.rotate(RubiksRotation.values()[random.nextInt(OptimalSolver.ROTATION_COUNT)]);
+            }
+            // exercise
+            var solution = solver.solve(cube);
+            // verify
+            assertThat(cube.rotate(solution).isSolved(), is(true));
+            assertThat(solution.size(), lessThanOrEqualTo(22));
+        }
+    }
+
+    @Test
+    void should_return_first_solution_when_time_budget_is_spent() {
+        // setup
+        var cube = new PackedRubiksCube().rotate(List.of(RubiksRotation.R, RubiksRotation.U, RubiksRotation.F_P, RubiksRotation.L_2, RubiksRotation.D, RubiksRotation.B));
+        // exercise
+        var solution = new TwoPhaseSolver(0, Duration.ZERO).solve(cube);
+        // verify
+        assertThat(cube.rotate(solution).isSolved(), is(true));
+    }
+
+    @Test
+    void should_solve_short_scrambles_optimally_when_target_is_their_length() {
+        // setup
+        var scramble = List.of(RubiksRotation.R, RubiksRotation.U_P, RubiksRotation.F_2);
+        var cube = new PackedRubiksCube().rotate(scramble);
+        // exercise
+        var solution = new TwoPhaseSolver(3, Duration.ofSeconds(10)).solve(cube);
+        // verify
+        assertThat(solution, equalTo(List.of(RubiksRotation.F_2, RubiksRotation.U, RubiksRotation.R_P)));
+    }
+
+    @Test
+    void should_reject_unsolvable_cube() {
+        // setup
+        var cube = RubiksCubies.of(0, 0, 1, 0).toCube();
+        // exercise & verify
+        assertThrows(IllegalArgumentException.class, () -> new TwoPhaseSolver().solve(cube));
+    }
+}
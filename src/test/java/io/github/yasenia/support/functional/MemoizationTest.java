@@ -0,0 +1,305 @@
+package io.github.yasenia.support.functional;
+
+import io.github.yasenia.support.functional.cache.CacheMonitoring;
+import io.github.yasenia.support.functional.cache.CacheSpec;
+import io.github.yasenia.support.functional.cache.EvictionPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static io.github.yasenia.support.functional.Memoization.memoize;
+import static io.github.yasenia.support.functional.Memoization.memoizeAsync;
+import static io.github.yasenia.support.functional.Memoization.memoizeInt;
+import static io.github.yasenia.support.functional.Memoization.memoizeLong;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MemoizationTest {
+
+    @Test
+    void should_compute_supplier_once() {
+        // setup
+        var invocations = new AtomicInteger();
+        Supplier<Integer> supplier = memoize(invocations::incrementAndGet);
+        // exercise
+        supplier.get();
+        supplier.get();
+        // verify
+        assertThat(supplier.get(), is(1));
+        assertThat(invocations.get(), is(1));
+    }
+
+    @Test
+    void should_compute_function_once_per_input() {
+        // setup
+        var invocations = new AtomicInteger();
+        Function<String, Integer> function = memoize((String input) -> {
+            invocations.incrementAndGet();
+            return input.length();
+        });
+        // exercise
+        function.apply("a");
+        function.apply("bb");
+        function.apply("a");
+        // verify
+        assertThat(function.apply("bb"), is(2));
+        assertThat(invocations.get(), is(2));
+    }
+
+    @Test
+    void should_compute_predicate_once_per_input() {
+        // setup
+        var invocations = new AtomicInteger();
+        Predicate<Integer> predicate = memoize((Integer input) -> {
+            invocations.incrementAndGet();
+            return input % 2 == 0;
+        });
+        // exercise
+        predicate.test(2);
+        predicate.test(3);
+        predicate.test(2);
+        // verify
+        assertThat(predicate.test(3), is(false));
+        assertThat(invocations.get(), is(2));
+    }
+
+    @Test
+    void should_support_recursive_memoized_functions() {
+        // setup
+        var fibonacci = new AtomicReference<Function<Integer, Long>>();
+        fibonacci.set(memoize((Integer n) -> n < 2 ? (long) n : fibonacci.get().apply(n - 1) + fibonacci.get().apply(n - 2)));
+        // exercise
+        var result = fibonacci.get().apply(90);
+        // verify
+        assertThat(result, is(2_880_067_194_370_816_120L));
+    }
+
+    @Test
+    void should_recompute_evicted_inputs_when_cache_is_bounded() {
+        // setup
+        var invocations = new AtomicInteger();
+        var spec = CacheSpec.<Integer, Integer>builder().maximumSize(1).evictionPolicy(EvictionPolicy.LRU).build();
+        Function<Integer, Integer> function = memoize((Integer input) -> {
+            invocations.incrementAndGet();
+            return input;
+        }, spec);
+        // exercise
+        function.apply(1);
+        function.apply(2);
+        function.apply(1);
+        // verify
+        assertThat(invocations.get(), is(3));
+    }
+
+    @Test
+    void should_compute_int_function_once_per_input() {
+        // setup
+        var invocations = new AtomicInteger();
+        MemoizedIntFunction<String> function = memoizeInt(input -> {
+            invocations.incrementAndGet();
+            return Integer.toBinaryString(input);
+        });
+        // exercise
+        function.apply(5);
+        function.apply(-1);
+        function.apply(5);
+        // verify
+        assertThat(function.apply(-1), is("11111111111111111111111111111111"));
+        assertThat(invocations.get(), is(2));
+    }
+
+    @Test
+    void should_compute_long_function_once_per_input() {
+        // setup
+        var invocations = new AtomicInteger();
+        MemoizedLongFunction<Long> function = memoizeLong(input -> {
+            invocations.incrementAndGet();
+            return input / 2;
+        }, 16);
+        // exercise
+        function.apply(Long.MAX_VALUE);
+        function.apply(Long.MAX_VALUE);
+        // verify
+        assertThat(function.apply(Long.MAX_VALUE), is(Long.MAX_VALUE / 2));
+        assertThat(invocations.get(), is(1));
+    }
+
+    @Test
+    void should_expose_statistics_of_memoized_supplier() {
+        // setup
+        MemoizedSupplier<String> supplier = memoize(() -> "value", true);
+        // exercise
+        supplier.get();
+        supplier.get();
+        supplier.get();
+        // verify
+        var stats = supplier.stats();
+        assertThat(stats.hitCount(), is(2L));
+        assertThat(stats.missCount(), is(1L));
+        assertThat(stats.loadSuccessCount(), is(1L));
+        assertThat(stats.size(), is(1L));
+    }
+
+    @Test
+    void should_only_report_size_of_memoized_supplier_not_recording_statistics() {
+        // setup
+        MemoizedSupplier<String> supplier = memoize(() -> "value");
+        // exercise
+        supplier.get();
+        supplier.get();
+        // verify
+        var stats = supplier.stats();
+        assertThat(stats.requestCount(), is(0L));
+        assertThat(stats.size(), is(1L));
+    }
+
+    @Test
+    void should_expose_statistics_of_memoized_function() {
+        // setup
+        MemoizedFunction<Integer, Integer> function = memoize((Integer input) -> input * 2);
+        // exercise
+        IntStream.of(1, 2, 1, 1).forEach(function::apply);
+        // verify
+        var stats = function.stats();
+        assertThat(stats.hitCount(), is(2L));
+        assertThat(stats.missCount(), is(2L));
+        assertThat(stats.size(), is(2L));
+    }
+
+    @Test
+    void should_publish_statistics_as_management_bean() throws Exception {
+        // setup
+        MemoizedPredicate<Integer> predicate = memoize((Integer input) -> input % 2 == 0);
+        IntStream.of(1, 1, 1, 2).forEach(predicate::test);
+        // exercise
+        var objectName = predicate.registerMetrics("parity");
+        try {
+            // verify
+            var server = ManagementFactory.getPlatformMBeanServer();
+            assertThat(server.getAttribute(objectName, "HitCount"), is(2L));
+            assertThat(server.getAttribute(objectName, "MissCount"), is(2L));
+            assertThat(server.getAttribute(objectName, "HitRate"), is(0.5));
+        } finally {
+            CacheMonitoring.unregister(objectName);
+        }
+    }
+
+    @Test
+    void should_share_single_async_load_between_concurrent_callers() throws Exception {
+        // setup
+        var invocations = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        MemoizedFunction<Integer, CompletableFuture<Integer>> function = memoizeAsync((Integer input) -> {
+            invocations.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return input * 2;
+        });
+        var start = new CountDownLatch(1);
+        var threads = 16;
+        var tasks = IntStream.range(0, threads).<Callable<CompletableFuture<Integer>>>mapToObj(thread -> () -> {
+            start.await();
+            return function.apply(21);
+        }).toList();
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            var submitted = tasks.stream().map(executor::submit).toList();
+            // exercise
+            start.countDown();
+            var futures = new ArrayList<CompletableFuture<Integer>>();
+            for (var future : submitted) {
+                futures.add(future.get());
+            }
+            release.countDown();
+            // verify
+            for (var future : futures) {
+                assertThat(future, sameInstance(futures.get(0)));
+                assertThat(future.get(), is(42));
+            }
+        }
+        assertThat(invocations.get(), is(1));
+    }
+
+    @Test
+    void should_compute_async_supplier_once() throws Exception {
+        // setup
+        var invocations = new AtomicInteger();
+        MemoizedSupplier<CompletableFuture<Integer>> supplier = memoizeAsync(invocations::incrementAndGet, Runnable::run);
+        // exercise
+        supplier.get();
+        supplier.get();
+        // verify
+        assertThat(supplier.get().get(), is(1));
+        assertThat(invocations.get(), is(1));
+        assertThat(supplier.stats().hitCount(), is(2L));
+    }
+
+    @Test
+    void should_load_again_after_async_load_failed() throws Exception {
+        // setup
+        var invocations = new AtomicInteger();
+        MemoizedFunction<String, CompletableFuture<Integer>> function = memoizeAsync((String input) -> {
+            if (invocations.incrementAndGet() == 1) throw new IllegalStateException("first load fails");
+            return input.length();
+        }, Runnable::run);
+        // exercise
+        var failed = function.apply("abc");
+        var loaded = function.apply("abc");
+        // verify
+        assertThrows(Exception.class, failed::join);
+        assertThat(loaded.get(), is(3));
+        assertThat(function.apply("abc").get(), is(3));
+        assertThat(invocations.get(), is(2));
+    }
+
+    @Test
+    void should_keep_newer_async_load_when_failed_load_completes_late() throws Exception {
+        // setup
+        var invocations = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var expiring = new AtomicBoolean();
+        CacheSpec<Object, Object> spec = CacheSpec.builder().maximumSize(16).expireAfterWrite(Duration.ofNanos(1)).ticker(() -> expiring.get() ? 2 : 0).build();
+        MemoizedFunction<String, CompletableFuture<Integer>> function = memoizeAsync((String input) -> {
+            if (invocations.incrementAndGet() == 1) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                throw new IllegalStateException("first load fails");
+            }
+            return input.length();
+        }, spec, runnable -> new Thread(runnable).start());
+        var failing = function.apply("abc");
+        started.await();
+        expiring.set(true);
+        var loaded = function.apply("abc");
+        expiring.set(false);
+        // exercise
+        release.countDown();
+        // verify
+        assertThrows(Exception.class, failing::join);
+        assertThat(loaded.get(), is(3));
+        assertThat(function.apply("abc"), sameInstance(loaded));
+        assertThat(invocations.get(), is(2));
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.yasenia.support.functional.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class CacheTest {
+
+    @ParameterizedTest
+    @EnumSource(EvictionPolicy.class)
+    void should_never_exceed_maximum_size(EvictionPolicy policy) {
+        // setup
+        Cache<Integer, Integer> cache = CacheSpec.<Integer, Integer>builder().maximumSize(100).evictionPolicy(policy).build().newCache();
+        // exercise
+        for (int key = 0; key < 10_000; key++) {
+            cache.get(key % 3 == 0 ? key % 50 : key, Function.identity());
+        }
+        // verify
+        assertThat(cache.size(), lessThanOrEqualTo(100L));
+    }
+
+    @Test
+    void should_never_exceed_maximum_size_when_split_into_segments() {
+        // setup
+        Cache<Integer, Integer> cache = CacheSpec.<Integer, Integer>builder().maximumSize(1001).concurrencyLevel(8).build().newCache();
+        // exercise
+        for (int key = 0; key < 100_000; key++) {
+            cache.get(key, Function.identity());
+        }
+        // verify
+        assertThat(cache.size(), lessThanOrEqualTo(1001L));
+    }
+
+    @Test
+    void should_evict_least_recently_used_entry_when_policy_is_lru() {
+        // setup
+        Cache<Integer, Integer> cache = CacheSpec.<Integer, Integer>builder().maximumSize(3).evictionPolicy(EvictionPolicy.LRU).build().newCache();
+        IntStream.of(1, 2, 3).forEach(key -> cache.get(key, Function.identity()));
+        cache.getIfPresent(1);
+        // exercise
+        cache.get(4, Function.identity());
+        // verify
+        assertThat(cache.getIfPresent(2), nullValue());
+        assertThat(cache.getIfPresent(1), is(1));
+        assertThat(cache.getIfPresent(3), is(3));
+        assertThat(cache.getIfPresent(4), is(4));
+    }
+
+    @Test
+    void should_evict_least_frequently_used_entry_when_policy_is_lfu() {
+        // setup
+        Cache<Integer, Integer> cache = CacheSpec.<Integer, Integer>builder().maximumSize(3).evictionPolicy(EvictionPolicy.LFU).build().newCache();
+        IntStream.of(1, 2, 3).forEach(key -> cache.get(key, Function.identity()));
+        IntStream.of(3, 3, 2, 2, 1).forEach(cache::getIfPresent);
+        // exercise
+        cache.get(4, Function.identity());
+        // verify
+        assertThat(cache.getIfPresent(1), nullValue());
+        assertThat(cache.getIfPresent(2), is(2));
+        assertThat(cache.getIfPresent(3), is(3));
+        assertThat(cache.getIfPresent(4), is(4));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = EvictionPolicy.class, names = {"LFU", "TINY_LFU"})
+    void should_keep_popular_entries_when_scanning_many_distinct_keys(EvictionPolicy policy) {
+        // setup
+        Cache<Integer, Integer> cache = CacheSpec.<Integer, Integer>builder().maximumSize(100).evictionPolicy(policy).concurrencyLevel(1).build().newCache();
+        for (int round = 0; round < 20; round++) {
+            IntStream.range(0, 50).forEach(key -> cache.get(key, Function.identity()));
+        }
+        // exercise
+        IntStream.range(1_000, 11_000).forEach(key -> cache.get(key, Function.identity()));
+        // verify
+        var retained = IntStream.range(0, 50).filter(key -> cache.getIfPresent(key) != null).count();
+        assertThat(retained, greaterThanOrEqualTo(45L));
+    }
+
+    @Test
+    void should_reload_entry_once_it_has_expired() {
+        // setup
+        var time = new AtomicLong();
+        var loads = new AtomicInteger();
+        Cache<String, Integer> cache = CacheSpec.<String, Integer>builder().expireAfterWrite(Duration.ofSeconds(10)).ticker(time::get).build().newCache();
+        cache.get("key", key -> loads.incrementAndGet());
+        // exercise & verify
+        time.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(cache.get("key", key -> loads.incrementAndGet()), is(1));
+        time.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(cache.getIfPresent("key"), nullValue());
+        assertThat(cache.get("key", key -> loads.incrementAndGet()), is(2));
+    }
+
+    @Test
+    void should_bound_total_weight_when_maximum_weight_is_set() {
+        // setup
+        Cache<Integer, String> cache = CacheSpec.<Integer, String>builder().maximumWeight(10, (key, value) -> value.length()).build().newCache();
+        // exercise
+        IntStream.range(0, 5).forEach(key -> cache.get(key, k -> "four"));
+        // verify
+        assertThat(cache.size(), is(2L));
+    }
+
+    @Test
+    void should_not_cache_null_values() {
+        // setup
+        var loads = new AtomicInteger();
+        Cache<String, String> cache = CacheSpec.defaults().newCache();
+        // exercise
+        cache.get("key", key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        cache.get("key", key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        // verify
+        assertThat(loads.get(), is(2));
+        assertThat(cache.size(), is(0L));
+    }
+
+    @Test
+    void should_discard_entries_when_invalidated() {
+        // setup
+        Cache<Integer, Integer> cache = CacheSpec.defaults().newCache();
+        IntStream.range(0, 10).forEach(key -> cache.get(key, Function.identity()));
+        // exercise & verify
+        cache.invalidate(3);
+        assertThat(cache.getIfPresent(3), nullValue());
+        assertThat(cache.size(), is(9L));
+        cache.invalidateAll();
+        assertThat(cache.size(), is(0L));
+    }
+
+    @Test
+    void should_only_remove_entry_still_holding_expected_value() {
+        // setup
+        Cache<String, String> cache = CacheSpec.defaults().newCache();
+        var stale = new String("value");
+        var current = cache.get("key", key -> new String("current"));
+        // exercise & verify
+        assertThat(cache.remove("key", stale), is(false));
+        assertThat(cache.getIfPresent("key"), sameInstance(current));
+        assertThat(cache.remove("key", "current"), is(true));
+        assertThat(cache.getIfPresent("key"), nullValue());
+        assertThat(cache.remove("key", "current"), is(false));
+    }
+
+    @ParameterizedTest
+    @EnumSource(EvictionPolicy.class)
+    void should_return_loaded_values_and_stay_bounded_under_concurrent_access(EvictionPolicy policy) throws Exception {
+        // setup
+        Cache<Integer, Integer> cache = CacheSpec.<Integer, Integer>builder().maximumSize(256).evictionPolicy(policy).build().newCache();
+        var tasks = new ArrayList<Callable<Boolean>>();
+        for (int thread = 0; thread < 8; thread++) {
+            var seed = thread;
+            tasks.add(() -> IntStream.range(0, 50_000).map(i -> (i * 31 + seed * 7) % 1_000).allMatch(key -> cache.get(key, k -> k * 2) == key * 2));
+        }
+        // exercise
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (var result : executor.invokeAll(tasks)) {
+                // verify
+                assertThat(result.get(), is(true));
+            }
+        }
+        assertThat(cache.size(), lessThanOrEqualTo(256L));
+    }
+
+    @Test
+    void should_record_hits_misses_loads_and_evictions() {
+        // setup
+        var time = new AtomicLong();
+        Cache<Integer, Integer> cache = CacheSpec.<Integer, Integer>builder().maximumSize(2).evictionPolicy(EvictionPolicy.LRU).concurrencyLevel(1).ticker(time::get).build().newCache();
+        // exercise
+        IntStream.of(1, 2, 1, 3).forEach(key -> cache.get(key, k -> {
+            time.addAndGet(10);
+            return k;
+        }));
+        cache.get(4, key -> null);
+        cache.getIfPresent(2);
+        // verify
+        var stats = cache.stats();
+        assertThat(stats.hitCount(), is(1L));
+        assertThat(stats.missCount(), is(5L));
+        assertThat(stats.loadSuccessCount(), is(3L));
+        assertThat(stats.loadFailureCount(), is(1L));
+        assertThat(stats.totalLoadTime(), is(30L));
+        assertThat(stats.evictionCount(), is(1L));
+        assertThat(stats.size(), is(2L));
+        assertThat(stats.hitRate(), is(1.0 / 6));
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.yasenia.support.functional.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class LongKeyCacheTest {
+
+    @Test
+    void should_compute_value_once_per_key() {
+        // setup
+        var loads = new AtomicInteger();
+        var cache = new LongKeyCache<String>(16);
+        // exercise
+        cache.get(Long.MIN_VALUE, key -> "min" + loads.incrementAndGet());
+        cache.get(0, key -> "zero" + loads.incrementAndGet());
+        // verify
+        assertThat(cache.get(Long.MIN_VALUE, key -> "min" + loads.incrementAndGet()), is("min1"));
+        assertThat(cache.get(0, key -> "zero" + loads.incrementAndGet()), is("zero2"));
+        assertThat(cache.stats().hitCount(), is(2L));
+        assertThat(cache.stats().missCount(), is(2L));
+    }
+
+    @Test
+    void should_never_exceed_maximum_size() {
+        // setup
+        var cache = new LongKeyCache<Long>(100);
+        // exercise
+        LongStream.range(0, 10_000).forEach(key -> cache.get(key * 0x9E37_79B9_7F4A_7C15L, Long::valueOf));
+        // verify
+        assertThat(cache.size(), lessThanOrEqualTo(100L));
+        assertThat(cache.stats().evictionCount(), is(10_000L - cache.size()));
+    }
+
+    @Test
+    void should_not_cache_null_values() {
+        // setup
+        var loads = new AtomicInteger();
+        var cache = new LongKeyCache<String>(16);
+        // exercise
+        cache.get(1, key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        cache.get(1, key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        // verify
+        assertThat(loads.get(), is(2));
+        assertThat(cache.size(), is(0L));
+    }
+
+    @Test
+    void should_discard_entries_when_invalidated() {
+        // setup
+        var cache = new LongKeyCache<Long>(64);
+        LongStream.range(0, 10).forEach(key -> cache.get(key, Long::valueOf));
+        // exercise & verify
+        cache.invalidate(3);
+        assertThat(cache.getIfPresent(3), nullValue());
+        assertThat(cache.size(), is(9L));
+        cache.invalidateAll();
+        assertThat(cache.size(), is(0L));
+    }
+
+    @Test
+    void should_return_loaded_values_and_stay_bounded_under_concurrent_access() throws Exception {
+        // setup
+        var cache = new LongKeyCache<Long>(256);
+        var tasks = new ArrayList<Callable<Boolean>>();
+        for (int thread = 0; thread < 8; thread++) {
+            var seed = thread;
+            tasks.add(() -> LongStream.range(0, 50_000).map(i -> (i * 31 + seed * 7) % 1_000).allMatch(key -> cache.get(key, k -> k * 2) == key * 2));
+        }
+        // exercise
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (var result : executor.invokeAll(tasks)) {
+                // verify
+                assertThat(result.get(), is(true));
+            }
+        }
+        assertThat(cache.size(), lessThanOrEqualTo(256L));
+    }
+}